@@ -0,0 +1,150 @@
+package com.expenso.expense_tracker.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ============================================================
+ * Benchmark Client
+ * ============================================================
+ *
+ * Thin HTTP client for seeding and driving a running server.
+ * One instance is shared by every load thread.
+ *
+ * ============================================================
+ */
+public final class BenchmarkClient {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String baseUrl;
+
+    public BenchmarkClient(String baseUrl) {
+
+        this.baseUrl = baseUrl;
+
+    }
+
+    /**
+     * Registers a user and returns its bearer token.
+     */
+    public String signup(
+            String name,
+            String email,
+            String password
+    ) throws IOException, InterruptedException {
+
+        String body = JSON.writeValueAsString(
+                JSON.createObjectNode()
+                        .put("name", name)
+                        .put("email", email)
+                        .put("password", password)
+        );
+
+        return token(post("/api/auth/signup", null, "application/json", body));
+
+    }
+
+    /**
+     * Logs in and returns the bearer token.
+     */
+    public String login(
+            String email,
+            String password
+    ) throws IOException, InterruptedException {
+
+        String body = JSON.writeValueAsString(
+                JSON.createObjectNode()
+                        .put("email", email)
+                        .put("password", password)
+        );
+
+        return token(post("/api/auth/login", null, "application/json", body));
+
+    }
+
+    /**
+     * Issues an authenticated GET and returns the status code.
+     * The body is read and discarded.
+     */
+    public int get(
+            String token,
+            String path
+    ) throws IOException, InterruptedException {
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+
+    }
+
+    /**
+     * Issues a POST with a JSON body and returns the status code.
+     */
+    public int postJson(
+            String token,
+            String path,
+            String body
+    ) throws IOException, InterruptedException {
+
+        return post(path, token, "application/json", body).statusCode();
+
+    }
+
+    private HttpResponse<String> post(
+            String path,
+            String token,
+            String contentType,
+            String body
+    ) throws IOException, InterruptedException {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+
+        if (token != null) {
+
+            request.header("Authorization", "Bearer " + token);
+
+        }
+
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+
+    }
+
+    private static String token(HttpResponse<String> response) throws IOException {
+
+        return expectSuccess(response).path("data").path("token").asText();
+
+    }
+
+    private static JsonNode expectSuccess(HttpResponse<String> response) throws IOException {
+
+        if (response.statusCode() / 100 != 2) {
+
+            throw new IOException(
+                    response.request().uri() + " returned " + response.statusCode() + ": " + response.body()
+            );
+
+        }
+
+        return JSON.readTree(response.body());
+
+    }
+
+}
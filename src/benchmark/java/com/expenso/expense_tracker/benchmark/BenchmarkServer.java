@@ -0,0 +1,102 @@
+package com.expenso.expense_tracker.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.expenso.expense_tracker.ExpenseTrackerApplication;
+
+/**
+ * ============================================================
+ * Benchmark Server
+ * ============================================================
+ *
+ * Boots the real application in-process on a random port
+ * against a private in-memory H2 database in PostgreSQL mode.
+ *
+ * Hibernate creates the schema; Flyway is off because the
+ * migrations are PostgreSQL-only. Pass extra properties to
+ * change the mode under test, for example
+ * spring.threads.virtual.enabled=true.
+ *
+ * ============================================================
+ */
+public final class BenchmarkServer implements AutoCloseable {
+
+    private static final String JWT_SECRET =
+            "YmVuY2htYXJrLXNlY3JldC1iZW5jaG1hcmstc2VjcmV0LWJlbmNobWFyay1zZWNyZXQ=";
+
+    private final ConfigurableApplicationContext context;
+
+    private final String baseUrl;
+
+    private BenchmarkServer(ConfigurableApplicationContext context) {
+
+        this.context = context;
+
+        this.baseUrl = "http://localhost:"
+                + context.getEnvironment().getProperty("local.server.port");
+
+    }
+
+    public static BenchmarkServer start(Map<String, String> overrides) {
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        Map<String, String> properties = new LinkedHashMap<>();
+
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:bench-" + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", "");
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("jwt.expiration", "3600000");
+        properties.put("app.cors.allowed-origins", "http://localhost");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+
+        properties.putAll(overrides);
+
+        List<String> args = new ArrayList<>();
+
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        return new BenchmarkServer(
+                SpringApplication.run(
+                        ExpenseTrackerApplication.class,
+                        args.toArray(String[]::new)
+                )
+        );
+
+    }
+
+    public String getBaseUrl() {
+
+        return baseUrl;
+
+    }
+
+    public ConfigurableApplicationContext getContext() {
+
+        return context;
+
+    }
+
+    @Override
+    public void close() {
+
+        context.close();
+
+    }
+
+}
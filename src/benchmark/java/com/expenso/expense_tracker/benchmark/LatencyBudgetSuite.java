@@ -0,0 +1,221 @@
+package com.expenso.expense_tracker.benchmark;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import com.expenso.expense_tracker.benchmark.LatencyBudgets.EndpointBudget;
+import com.expenso.expense_tracker.benchmark.LoadDriver.LoadResult;
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator;
+import com.expenso.expense_tracker.benchmark.data.DatasetLoader;
+import com.expenso.expense_tracker.benchmark.data.DatasetSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ============================================================
+ * Latency Budget Suite
+ * ============================================================
+ *
+ * End-to-end regression check. Boots the application on H2 in
+ * PostgreSQL mode, loads a generated dataset and drives each
+ * endpoint over HTTP at the committed concurrency. A run fails
+ * (exit status 1) when any endpoint returns errors, exceeds a
+ * p50/p95/p99 budget, or issues more SQL statements per request
+ * than budgeted.
+ *
+ * Endpoints: dashboard, transactions, monthly report,
+ * categories and login. The dashboard cache is disabled so the
+ * dashboard budget covers its queries.
+ *
+ * Run:
+ *
+ * mvn -Pbenchmark compile exec:java \
+ *     -Dbenchmark.main=com.expenso.expense_tracker.benchmark.LatencyBudgetSuite
+ *
+ * System properties: benchmark.budgets (budget file),
+ * benchmark.concurrency (overrides the committed value),
+ * benchmark.virtual (run on virtual threads).
+ *
+ * Budgets are absolute and machine-dependent; the committed
+ * ones leave headroom over a single-core reference run.
+ *
+ * ============================================================
+ */
+public final class LatencyBudgetSuite {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LatencyBudgetSuite() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LatencyBudgets budgets = LatencyBudgets.read(
+                Path.of(System.getProperty("benchmark.budgets", "src/benchmark/latency-budgets.json"))
+        );
+
+        int concurrency = Integer.getInteger("benchmark.concurrency", budgets.concurrency());
+
+        List<String> failures = new ArrayList<>();
+
+        try (BenchmarkServer server = BenchmarkServer.start(Map.of(
+                "spring.threads.virtual.enabled", System.getProperty("benchmark.virtual", "false"),
+                "spring.jpa.properties.hibernate.generate_statistics", "true",
+                "app.cache.dashboard.maximum-size", "0"
+        ))) {
+
+            BenchmarkClient client = new BenchmarkClient(server.getBaseUrl());
+
+            DatasetGenerator generator = new DatasetGenerator(
+                    DatasetSpec.builder()
+                            .users(budgets.users())
+                            .transactionsPerUser(budgets.transactionsPerUser())
+                            .build()
+            );
+
+            new DatasetLoader(server.getContext().getBean(DataSource.class)).load(generator);
+
+            List<String> logins = new ArrayList<>(budgets.users());
+
+            List<String> tokens = new ArrayList<>(budgets.users());
+
+            for (int user = 0; user < budgets.users(); user++) {
+
+                String email = generator.user(user).email();
+
+                String password = generator.getSpec().getPassword();
+
+                logins.add(JSON.writeValueAsString(Map.of("email", email, "password", password)));
+
+                tokens.add(client.login(email, password));
+
+            }
+
+            Statistics statistics = server.getContext()
+                    .getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+
+            System.out.println();
+            System.out.printf(
+                    "users=%d transactions/user=%d concurrency=%d%n",
+                    budgets.users(), budgets.transactionsPerUser(), concurrency
+            );
+
+            for (EndpointBudget budget : budgets.endpoints()) {
+
+                LoadDriver.Request request = request(budget.name(), client, tokens, logins);
+
+                LoadDriver.run(budget.name(), concurrency, Math.max(budget.requests() / 10, concurrency), request);
+
+                statistics.clear();
+
+                LoadResult result = LoadDriver.run(budget.name(), concurrency, budget.requests(), request);
+
+                double queries = (double) statistics.getPrepareStatementCount() / budget.requests();
+
+                System.out.printf("%s  queries/req=%.2f%n", result.format(), queries);
+
+                check(budget, result, queries, failures);
+
+            }
+
+        }
+
+        if (!failures.isEmpty()) {
+
+            System.out.println();
+            System.out.println("Budget exceeded:");
+            failures.forEach(failure -> System.out.println("  " + failure));
+
+            System.exit(1);
+
+        }
+
+        System.out.println("All endpoints within budget.");
+
+    }
+
+    private static LoadDriver.Request request(
+            String endpoint,
+            BenchmarkClient client,
+            List<String> tokens,
+            List<String> logins
+    ) {
+
+        YearMonth month = YearMonth.now();
+
+        return switch (endpoint) {
+            case "dashboard" -> sequence -> client.get(
+                    tokens.get(sequence % tokens.size()),
+                    "/api/dashboard"
+            );
+            case "transactions" -> sequence -> client.get(
+                    tokens.get(sequence % tokens.size()),
+                    "/api/transactions?page=" + (sequence % 10) + "&size=20"
+            );
+            case "reports-monthly" -> sequence -> client.get(
+                    tokens.get(sequence % tokens.size()),
+                    "/api/reports/monthly?month=" + month.minusMonths(sequence % 12)
+            );
+            case "categories" -> sequence -> client.get(
+                    tokens.get(sequence % tokens.size()),
+                    "/api/categories"
+            );
+            case "login" -> sequence -> client.postJson(
+                    null,
+                    "/api/auth/login",
+                    logins.get(sequence % logins.size())
+            );
+            default -> throw new IllegalArgumentException("Unknown endpoint in budgets: " + endpoint);
+        };
+
+    }
+
+    private static void check(
+            EndpointBudget budget,
+            LoadResult result,
+            double queries,
+            List<String> failures
+    ) {
+
+        if (result.errors() > 0) {
+
+            failures.add(budget.name() + ": " + result.errors() + " failed requests");
+
+        }
+
+        limit(failures, budget.name(), "p50", result.percentileMillis(50), budget.p50Millis(), "ms");
+        limit(failures, budget.name(), "p95", result.percentileMillis(95), budget.p95Millis(), "ms");
+        limit(failures, budget.name(), "p99", result.percentileMillis(99), budget.p99Millis(), "ms");
+        limit(failures, budget.name(), "queries/request", queries, budget.queriesPerRequest(), "");
+
+    }
+
+    private static void limit(
+            List<String> failures,
+            String endpoint,
+            String metric,
+            double actual,
+            double budget,
+            String unit
+    ) {
+
+        if (actual > budget) {
+
+            failures.add(String.format("%s %s %.2f%s > budget %.2f%s", endpoint, metric, actual, unit, budget, unit));
+
+        }
+
+    }
+
+}
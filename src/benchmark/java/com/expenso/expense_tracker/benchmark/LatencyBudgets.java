@@ -0,0 +1,44 @@
+package com.expenso.expense_tracker.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ============================================================
+ * Latency Budgets
+ * ============================================================
+ *
+ * The committed limits for LatencyBudgetSuite, read from
+ * src/benchmark/latency-budgets.json: the dataset and load
+ * shape, and per endpoint the request count, latency
+ * percentiles and average SQL statements per request.
+ *
+ * ============================================================
+ */
+public record LatencyBudgets(
+        int users,
+        int transactionsPerUser,
+        int concurrency,
+        List<EndpointBudget> endpoints
+) {
+
+    public static LatencyBudgets read(Path file) throws IOException {
+
+        return new ObjectMapper().readValue(file.toFile(), LatencyBudgets.class);
+
+    }
+
+    public record EndpointBudget(
+            String name,
+            int requests,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double queriesPerRequest
+    ) {
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.expenso.expense_tracker.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * ============================================================
+ * Load Driver
+ * ============================================================
+ *
+ * Closed-loop load: a fixed number of clients each send their
+ * next request as soon as the previous one completes, until
+ * the request budget is spent.
+ *
+ * Clients run on virtual threads so the driver itself never
+ * limits concurrency, whatever the server mode under test.
+ * Latencies go into an HDR histogram (3 significant digits).
+ *
+ * ============================================================
+ */
+public final class LoadDriver {
+
+    /**
+     * One request; returns the HTTP status code.
+     */
+    @FunctionalInterface
+    public interface Request {
+
+        int send(int sequence) throws Exception;
+
+    }
+
+    private LoadDriver() {
+    }
+
+    public static LoadResult run(
+            String name,
+            int concurrency,
+            int requests,
+            Request request
+    ) throws Exception {
+
+        AtomicInteger next = new AtomicInteger();
+
+        LongAdder errors = new LongAdder();
+
+        Histogram latencies = new ConcurrentHistogram(3);
+
+        long started = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            Future<?>[] futures = new Future<?>[concurrency];
+
+            for (int client = 0; client < concurrency; client++) {
+
+                futures[client] = clients.submit(() -> {
+
+                    int sequence;
+
+                    while ((sequence = next.getAndIncrement()) < requests) {
+
+                        long sent = System.nanoTime();
+
+                        int status;
+
+                        try {
+
+                            status = request.send(sequence);
+
+                        } catch (Exception exception) {
+
+                            status = -1;
+
+                        }
+
+                        latencies.recordValue(System.nanoTime() - sent);
+
+                        if (status < 200 || status >= 300) {
+
+                            errors.increment();
+
+                        }
+
+                    }
+
+                    return null;
+
+                });
+
+            }
+
+            for (Future<?> future : futures) {
+
+                future.get();
+
+            }
+
+        }
+
+        long elapsed = System.nanoTime() - started;
+
+        return new LoadResult(name, concurrency, requests, errors.sum(), elapsed, latencies);
+
+    }
+
+    /**
+     * Outcome of one run. Latencies are in nanoseconds.
+     */
+    public record LoadResult(
+            String name,
+            int concurrency,
+            int requests,
+            long errors,
+            long elapsedNanos,
+            Histogram latencies
+    ) {
+
+        public double throughput() {
+
+            return requests / (elapsedNanos / 1_000_000_000.0);
+
+        }
+
+        public double percentileMillis(double percentile) {
+
+            return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+
+        }
+
+        public String format() {
+
+            return String.format(
+                    "%-28s c=%-4d n=%-6d err=%-5d %9.1f req/s  p50=%7.2fms  p95=%7.2fms  p99=%7.2fms  max=%8.2fms",
+                    name,
+                    concurrency,
+                    requests,
+                    errors,
+                    throughput(),
+                    percentileMillis(50),
+                    percentileMillis(95),
+                    percentileMillis(99),
+                    percentileMillis(100)
+            );
+
+        }
+
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.expenso.expense_tracker.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.expenso.expense_tracker.benchmark.LoadDriver.LoadResult;
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator;
+import com.expenso.expense_tracker.benchmark.data.DatasetLoader;
+import com.expenso.expense_tracker.benchmark.data.DatasetSpec;
+
+/**
+ * ============================================================
+ * Thread Mode Benchmark
+ * ============================================================
+ *
+ * Compares platform-thread and virtual-thread request handling
+ * on the dashboard and the paged transaction list.
+ *
+ * Each mode gets a fresh server and database, the same generated
+ * dataset, a warm-up pass and then a measured pass. The dashboard
+ * cache is disabled so every request reaches the database.
+ *
+ * Run:
+ *
+ * mvn -Pbenchmark compile exec:java
+ *
+ * Tunables (system properties, defaults in brackets):
+ *
+ * benchmark.modes        [platform,virtual]
+ * benchmark.users        [20]
+ * benchmark.transactions [1000]  per user
+ * benchmark.concurrency  [256]
+ * benchmark.requests     [20000] per endpoint
+ *
+ * Expect similar throughput in both modes: every request needs
+ * one of the ten pooled connections. Virtual threads pay off
+ * in thread count and in requests waiting on I/O that is not
+ * the database.
+ *
+ * ============================================================
+ */
+public final class ThreadModeBenchmark {
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        List<String> modes = List.of(
+                System.getProperty("benchmark.modes", "platform,virtual").split(",")
+        );
+
+        int users = Integer.getInteger("benchmark.users", 20);
+
+        int transactions = Integer.getInteger("benchmark.transactions", 1000);
+
+        int concurrency = Integer.getInteger("benchmark.concurrency", 256);
+
+        int requests = Integer.getInteger("benchmark.requests", 20000);
+
+        List<String> report = new ArrayList<>();
+
+        for (String mode : modes) {
+
+            boolean virtual = switch (mode.strip()) {
+                case "platform" -> false;
+                case "virtual" -> true;
+                default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+            };
+
+            try (BenchmarkServer server = BenchmarkServer.start(Map.of(
+                    "spring.threads.virtual.enabled", String.valueOf(virtual),
+                    "app.cache.dashboard.maximum-size", "0"
+            ))) {
+
+                BenchmarkClient client = new BenchmarkClient(server.getBaseUrl());
+
+                List<String> tokens = seed(server, client, users, transactions);
+
+                ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+                measure(client, tokens, concurrency, Math.max(requests / 10, concurrency), mode + " (warm-up)");
+
+                threads.resetPeakThreadCount();
+
+                List<LoadResult> results = measure(client, tokens, concurrency, requests, mode);
+
+                results.forEach(result -> report.add(result.format()));
+
+                report.add(String.format(
+                        "%-28s peak JVM platform threads: %d",
+                        mode,
+                        threads.getPeakThreadCount()
+                ));
+
+            }
+
+        }
+
+        System.out.println();
+        System.out.printf(
+                "users=%d transactions/user=%d concurrency=%d requests/endpoint=%d%n",
+                users, transactions, concurrency, requests
+        );
+        report.forEach(System.out::println);
+
+    }
+
+    private static List<LoadResult> measure(
+            BenchmarkClient client,
+            List<String> tokens,
+            int concurrency,
+            int requests,
+            String label
+    ) throws Exception {
+
+        LoadResult dashboard = LoadDriver.run(
+                label + " dashboard",
+                concurrency,
+                requests,
+                sequence -> client.get(tokens.get(sequence % tokens.size()), "/api/dashboard")
+        );
+
+        LoadResult list = LoadDriver.run(
+                label + " transactions",
+                concurrency,
+                requests,
+                sequence -> client.get(
+                        tokens.get(sequence % tokens.size()),
+                        "/api/transactions?page=" + (sequence % 10) + "&size=20"
+                )
+        );
+
+        return List.of(dashboard, list);
+
+    }
+
+    /**
+     * Bulk-loads the dataset and logs every user in; returns
+     * one token per user.
+     */
+    private static List<String> seed(
+            BenchmarkServer server,
+            BenchmarkClient client,
+            int users,
+            int transactions
+    ) throws Exception {
+
+        DatasetGenerator generator = new DatasetGenerator(
+                DatasetSpec.builder()
+                        .users(users)
+                        .transactionsPerUser(transactions)
+                        .build()
+        );
+
+        new DatasetLoader(server.getContext().getBean(DataSource.class)).load(generator);
+
+        List<String> tokens = new ArrayList<>(users);
+
+        for (int user = 0; user < users; user++) {
+
+            tokens.add(client.login(generator.user(user).email(), generator.getSpec().getPassword()));
+
+        }
+
+        return tokens;
+
+    }
+
+}
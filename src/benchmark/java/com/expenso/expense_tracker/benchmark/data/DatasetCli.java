@@ -0,0 +1,79 @@
+package com.expenso.expense_tracker.benchmark.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.expenso.expense_tracker.benchmark.data.DatasetLoader.LoadSummary;
+
+/**
+ * ============================================================
+ * Dataset CLI
+ * ============================================================
+ *
+ * Loads a generated dataset into an existing database. Start
+ * the application against the database once first so the
+ * schema exists.
+ *
+ * mvn -Pbenchmark compile exec:java \
+ *     -Dbenchmark.main=com.expenso.expense_tracker.benchmark.data.DatasetCli \
+ *     -Dexec.args="--url=jdbc:postgresql://localhost/expenso --username=app
+ *                  --db-password=secret --users=100000 --transactions-per-user=5000"
+ *
+ * Connection options: --url, --username, --db-password.
+ * Every other option is a DatasetSpec property in kebab case
+ * (--seed, --span-days, --zipf-exponent, --income-share, ...).
+ *
+ * ============================================================
+ */
+public final class DatasetCli {
+
+    private DatasetCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Map<String, String> options = new LinkedHashMap<>();
+
+        for (String arg : args) {
+
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+
+            }
+
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+
+        }
+
+        String url = options.remove("url");
+
+        if (url == null) {
+
+            throw new IllegalArgumentException("--url is required.");
+
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url,
+                options.getOrDefault("username", ""),
+                options.getOrDefault("db-password", "")
+        );
+
+        options.remove("username");
+
+        options.remove("db-password");
+
+        DatasetSpec spec = DatasetSpec.fromArgs(options);
+
+        System.out.println("Generating " + spec);
+
+        LoadSummary summary = new DatasetLoader(dataSource).load(new DatasetGenerator(spec));
+
+        System.out.println("Loaded " + summary);
+
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.expenso.expense_tracker.benchmark.data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.model.Transaction;
+
+/**
+ * ============================================================
+ * Dataset Generator
+ * ============================================================
+ *
+ * Deterministic users and transactions from a DatasetSpec.
+ *
+ * Every user has an independent random stream derived from the
+ * seed and the user's index, so any user can be regenerated on
+ * its own, in any order, without generating the ones before it.
+ *
+ * Expense categories follow a Zipf distribution over a fixed
+ * ranking; amounts are log-normal around a typical value per
+ * category. Income is mostly salary.
+ *
+ * ============================================================
+ */
+public final class DatasetGenerator {
+
+    private static final String[] EXPENSE_CATEGORIES = {
+            "Food", "Groceries", "Transport", "Shopping", "Utilities", "Rent",
+            "Entertainment", "Health", "Subscriptions", "Travel", "Education",
+            "Insurance", "Personal Care", "Gifts", "Pets", "Home"
+    };
+
+    private static final double[] TYPICAL_EXPENSE = {
+            12, 45, 8, 60, 90, 1200,
+            25, 40, 15, 300, 150,
+            120, 30, 50, 35, 80
+    };
+
+    private static final String[] INCOME_CATEGORIES = {"Salary", "Freelance", "Interest"};
+
+    private static final double[] TYPICAL_INCOME = {3500, 600, 20};
+
+    private static final String[] NOTES = {
+            "card payment", "weekly shop", "online order", "cash", "monthly",
+            "split with friends", "auto debit", "refund pending", "work trip", "gift"
+    };
+
+    private static final long USER_STREAM = 0x5DEECE66DL;
+
+    private static final long TRANSACTION_STREAM = 0x9E3779B97F4A7C15L;
+
+    private final DatasetSpec spec;
+
+    private final ZipfDistribution categoryRanks;
+
+    private final String[] categories;
+
+    private final double[] typicalAmounts;
+
+    public DatasetGenerator(DatasetSpec spec) {
+
+        this.spec = spec.validate();
+
+        this.categoryRanks = new ZipfDistribution(spec.getCategories(), spec.getZipfExponent());
+
+        this.categories = new String[spec.getCategories()];
+
+        this.typicalAmounts = new double[spec.getCategories()];
+
+        for (int rank = 0; rank < categories.length; rank++) {
+
+            boolean named = rank < EXPENSE_CATEGORIES.length;
+
+            categories[rank] = named ? EXPENSE_CATEGORIES[rank] : "Category " + (rank + 1);
+
+            typicalAmounts[rank] = named ? TYPICAL_EXPENSE[rank] : 50;
+
+        }
+
+    }
+
+    public DatasetSpec getSpec() {
+
+        return spec;
+
+    }
+
+    public GeneratedUser user(int index) {
+
+        SplittableRandom random = new SplittableRandom(spec.getSeed() * USER_STREAM + index);
+
+        long high = (random.nextLong() & ~0xF000L) | 0x4000L;
+
+        long low = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new GeneratedUser(
+                index,
+                new UUID(high, low),
+                "User " + index,
+                "user" + index + "@" + spec.getEmailDomain()
+        );
+
+    }
+
+    /**
+     * Generates one user's transactions in creation order. Ids
+     * run from firstId upwards.
+     */
+    public void forEachTransaction(
+            GeneratedUser user,
+            long firstId,
+            Consumer<Transaction> consumer
+    ) {
+
+        SplittableRandom random = new SplittableRandom(spec.getSeed() * TRANSACTION_STREAM + user.index());
+
+        LocalDate firstDay = spec.getEndDate().minusDays(spec.getSpanDays() - 1L);
+
+        for (int index = 0; index < spec.getTransactionsPerUser(); index++) {
+
+            LocalDate date = firstDay.plusDays(random.nextInt(spec.getSpanDays()));
+
+            boolean income = random.nextDouble() < spec.getIncomeShare();
+
+            String category;
+
+            double typical;
+
+            if (income) {
+
+                double pick = random.nextDouble();
+
+                int source = pick < 0.8 ? 0 : pick < 0.95 ? 1 : 2;
+
+                category = INCOME_CATEGORIES[source];
+
+                typical = TYPICAL_INCOME[source];
+
+            } else {
+
+                int rank = categoryRanks.sample(random);
+
+                category = categories[rank];
+
+                typical = typicalAmounts[rank];
+
+            }
+
+            long cents = Math.max(1, Math.round(typical * Math.exp(0.6 * random.nextGaussian()) * 100));
+
+            String notes = random.nextDouble() < spec.getNotesShare()
+                    ? NOTES[random.nextInt(NOTES.length)]
+                    : null;
+
+            LocalDateTime createdAt = date.atStartOfDay().plusMinutes(random.nextInt(24 * 60));
+
+            consumer.accept(
+                    new Transaction(
+                            firstId + index,
+                            user.id(),
+                            income ? TransactionType.INCOME : TransactionType.EXPENSE,
+                            BigDecimal.valueOf(cents, 2),
+                            category,
+                            date,
+                            notes,
+                            createdAt,
+                            createdAt
+                    )
+            );
+
+        }
+
+    }
+
+    public List<Transaction> transactions(
+            GeneratedUser user,
+            long firstId
+    ) {
+
+        List<Transaction> transactions = new ArrayList<>(spec.getTransactionsPerUser());
+
+        forEachTransaction(user, firstId, transactions::add);
+
+        return transactions;
+
+    }
+
+    /**
+     * A generated user. The password is DatasetSpec.password.
+     */
+    public record GeneratedUser(
+            int index,
+            UUID id,
+            String name,
+            String email
+    ) {
+    }
+
+}
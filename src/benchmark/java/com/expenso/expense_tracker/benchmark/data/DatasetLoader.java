@@ -0,0 +1,478 @@
+package com.expenso.expense_tracker.benchmark.data;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator.GeneratedUser;
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.model.Transaction;
+
+/**
+ * ============================================================
+ * Dataset Loader
+ * ============================================================
+ *
+ * Bulk-loads a generated dataset over JDBC into a schema the
+ * application has already created. Transactions go through
+ * COPY on PostgreSQL and batched INSERTs elsewhere (H2); the
+ * monthly rollups the dashboard reads are written alongside,
+ * and transactions_seq is moved past the loaded ids.
+ *
+ * Users are committed in chunks, so a large load can be
+ * watched from another session while it runs. Generated emails
+ * must not already exist.
+ *
+ * ============================================================
+ */
+public final class DatasetLoader {
+
+    private static final int USERS_PER_COMMIT = 50;
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private static final String INSERT_USER = """
+            insert into users (id, name, email, password, role, active, token_version, created_at, updated_at)
+            values (?, ?, ?, ?, 'USER', true, 0, ?, ?)
+            """;
+
+    private static final String INSERT_TRANSACTION = """
+            insert into transactions (id, user_id, type, amount, category, date, notes, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String COPY_TRANSACTIONS = """
+            copy transactions (id, user_id, type, amount, category, date, notes, created_at, updated_at)
+            from stdin with (format csv)
+            """;
+
+    private static final String INSERT_ROLLUP = """
+            insert into user_monthly_rollup (user_id, period, type, category, total_amount, transaction_count)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final DataSource dataSource;
+
+    public DatasetLoader(DataSource dataSource) {
+
+        this.dataSource = dataSource;
+
+    }
+
+    public LoadSummary load(DatasetGenerator generator) throws SQLException {
+
+        DatasetSpec spec = generator.getSpec();
+
+        long started = System.nanoTime();
+
+        String passwordHash = new BCryptPasswordEncoder().encode(spec.getPassword());
+
+        long rollups = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            boolean postgres = connection.getMetaData()
+                    .getDatabaseProductName()
+                    .toLowerCase()
+                    .contains("postgresql");
+
+            boolean autoCommit = connection.getAutoCommit();
+
+            connection.setAutoCommit(false);
+
+            try {
+
+                long nextId = maxTransactionId(connection) + 1;
+
+                for (int first = 0; first < spec.getUsers(); first += USERS_PER_COMMIT) {
+
+                    int last = Math.min(first + USERS_PER_COMMIT, spec.getUsers());
+
+                    RollupTotals totals = new RollupTotals();
+
+                    insertUsers(connection, generator, first, last, passwordHash);
+
+                    if (postgres) {
+
+                        copyTransactions(connection, generator, first, last, nextId, totals);
+
+                    } else {
+
+                        insertTransactions(connection, generator, first, last, nextId, totals);
+
+                    }
+
+                    rollups += totals.insert(connection);
+
+                    connection.commit();
+
+                    nextId += (long) (last - first) * spec.getTransactionsPerUser();
+
+                    if (last % (USERS_PER_COMMIT * 20) == 0 || last == spec.getUsers()) {
+
+                        System.out.printf("Loaded %d/%d users%n", last, spec.getUsers());
+
+                    }
+
+                }
+
+                advanceSequence(connection, postgres, nextId - 1);
+
+                connection.commit();
+
+            } catch (SQLException | RuntimeException exception) {
+
+                connection.rollback();
+
+                throw exception;
+
+            } finally {
+
+                connection.setAutoCommit(autoCommit);
+
+            }
+
+        }
+
+        return new LoadSummary(
+                spec.getUsers(),
+                spec.getTotalTransactions(),
+                rollups,
+                Duration.ofNanos(System.nanoTime() - started)
+        );
+
+    }
+
+    private void insertUsers(
+            Connection connection,
+            DatasetGenerator generator,
+            int first,
+            int last,
+            String passwordHash
+    ) throws SQLException {
+
+        Timestamp createdAt = Timestamp.valueOf(
+                generator.getSpec().getEndDate().minusDays(generator.getSpec().getSpanDays()).atStartOfDay()
+        );
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_USER)) {
+
+            for (int index = first; index < last; index++) {
+
+                GeneratedUser user = generator.user(index);
+
+                statement.setObject(1, user.id());
+                statement.setString(2, user.name());
+                statement.setString(3, user.email());
+                statement.setString(4, passwordHash);
+                statement.setTimestamp(5, createdAt);
+                statement.setTimestamp(6, createdAt);
+                statement.addBatch();
+
+            }
+
+            statement.executeBatch();
+
+        }
+
+    }
+
+    private void insertTransactions(
+            Connection connection,
+            DatasetGenerator generator,
+            int first,
+            int last,
+            long firstId,
+            RollupTotals totals
+    ) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_TRANSACTION)) {
+
+            int pending = 0;
+
+            long nextId = firstId;
+
+            for (int index = first; index < last; index++) {
+
+                GeneratedUser user = generator.user(index);
+
+                for (Transaction transaction : generator.transactions(user, nextId)) {
+
+                    totals.add(transaction);
+
+                    statement.setLong(1, transaction.getId());
+                    statement.setObject(2, transaction.getUserId());
+                    statement.setString(3, transaction.getType().name());
+                    statement.setBigDecimal(4, transaction.getAmount());
+                    statement.setString(5, transaction.getCategory());
+                    statement.setObject(6, transaction.getDate());
+                    statement.setString(7, transaction.getNotes());
+                    statement.setTimestamp(8, Timestamp.valueOf(transaction.getCreatedAt()));
+                    statement.setTimestamp(9, Timestamp.valueOf(transaction.getUpdatedAt()));
+                    statement.addBatch();
+
+                    if (++pending == INSERT_BATCH_SIZE) {
+
+                        statement.executeBatch();
+
+                        pending = 0;
+
+                    }
+
+                }
+
+                nextId += generator.getSpec().getTransactionsPerUser();
+
+            }
+
+            if (pending > 0) {
+
+                statement.executeBatch();
+
+            }
+
+        }
+
+    }
+
+    private void copyTransactions(
+            Connection connection,
+            DatasetGenerator generator,
+            int first,
+            int last,
+            long firstId,
+            RollupTotals totals
+    ) throws SQLException {
+
+        CopyIn copy = connection.unwrap(PGConnection.class)
+                .getCopyAPI()
+                .copyIn(COPY_TRANSACTIONS);
+
+        try {
+
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 256);
+
+            long nextId = firstId;
+
+            for (int index = first; index < last; index++) {
+
+                GeneratedUser user = generator.user(index);
+
+                for (Transaction transaction : generator.transactions(user, nextId)) {
+
+                    totals.add(transaction);
+
+                    buffer.append(transaction.getId()).append(',')
+                            .append(transaction.getUserId()).append(',')
+                            .append(transaction.getType().name()).append(',')
+                            .append(transaction.getAmount().toPlainString()).append(',')
+                            .append(csv(transaction.getCategory())).append(',')
+                            .append(transaction.getDate()).append(',')
+                            .append(transaction.getNotes() == null ? "" : csv(transaction.getNotes())).append(',')
+                            .append(transaction.getCreatedAt()).append(',')
+                            .append(transaction.getUpdatedAt()).append('\n');
+
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+
+                        write(copy, buffer);
+
+                    }
+
+                }
+
+                nextId += generator.getSpec().getTransactionsPerUser();
+
+            }
+
+            write(copy, buffer);
+
+            copy.endCopy();
+
+        } finally {
+
+            if (copy.isActive()) {
+
+                copy.cancelCopy();
+
+            }
+
+        }
+
+    }
+
+    private static void write(
+            CopyIn copy,
+            StringBuilder buffer
+    ) throws SQLException {
+
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+
+        copy.writeToCopy(bytes, 0, bytes.length);
+
+        buffer.setLength(0);
+
+    }
+
+    private static String csv(String value) {
+
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+
+    }
+
+    private static long maxTransactionId(Connection connection) throws SQLException {
+
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from transactions")) {
+
+            result.next();
+
+            return result.getLong(1);
+
+        }
+
+    }
+
+    /**
+     * Ids are handed out by Hibernate's pooled optimizer in
+     * blocks of 50 ending at the sequence value, as in
+     * V3__transactions_id_sequence.sql.
+     */
+    private static void advanceSequence(
+            Connection connection,
+            boolean postgres,
+            long maxId
+    ) throws SQLException {
+
+        try (Statement statement = connection.createStatement()) {
+
+            if (postgres) {
+
+                statement.execute("select setval('transactions_seq', " + (maxId + 50) + ", false)");
+
+            } else {
+
+                statement.execute("alter sequence transactions_seq restart with " + (maxId + 50));
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Rollup buckets for the users of one chunk.
+     */
+    private static final class RollupTotals {
+
+        private final Map<RollupKey, long[]> buckets = new HashMap<>();
+
+        void add(Transaction transaction) {
+
+            long[] bucket = buckets.computeIfAbsent(
+                    new RollupKey(
+                            transaction.getUserId(),
+                            transaction.getDate().withDayOfMonth(1),
+                            transaction.getType(),
+                            transaction.getCategory()
+                    ),
+                    key -> new long[2]
+            );
+
+            bucket[0] += transaction.getAmount().unscaledValue().longValueExact();
+
+            bucket[1]++;
+
+        }
+
+        int insert(Connection connection) throws SQLException {
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ROLLUP)) {
+
+                int pending = 0;
+
+                for (Map.Entry<RollupKey, long[]> entry : buckets.entrySet()) {
+
+                    RollupKey key = entry.getKey();
+
+                    statement.setObject(1, key.userId());
+                    statement.setObject(2, key.period());
+                    statement.setString(3, key.type().name());
+                    statement.setString(4, key.category());
+                    statement.setBigDecimal(5, BigDecimal.valueOf(entry.getValue()[0], 2));
+                    statement.setLong(6, entry.getValue()[1]);
+                    statement.addBatch();
+
+                    if (++pending == INSERT_BATCH_SIZE) {
+
+                        statement.executeBatch();
+
+                        pending = 0;
+
+                    }
+
+                }
+
+                if (pending > 0) {
+
+                    statement.executeBatch();
+
+                }
+
+            }
+
+            return buckets.size();
+
+        }
+
+    }
+
+    private record RollupKey(
+            UUID userId,
+            LocalDate period,
+            TransactionType type,
+            String category
+    ) {
+    }
+
+    public record LoadSummary(
+            long users,
+            long transactions,
+            long rollups,
+            Duration elapsed
+    ) {
+
+        @Override
+        public String toString() {
+
+            return String.format(
+                    "%d users, %d transactions, %d rollup rows in %ds (%.0f transactions/s)",
+                    users,
+                    transactions,
+                    rollups,
+                    elapsed.toSeconds(),
+                    transactions / Math.max(elapsed.toMillis() / 1000.0, 0.001)
+            );
+
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.expenso.expense_tracker.benchmark.data;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * ============================================================
+ * Dataset Spec
+ * ============================================================
+ *
+ * Everything that determines a synthetic dataset. Two runs with
+ * equal specs produce identical users and transactions, apart
+ * from the end date, which defaults to today so dashboards
+ * always have a current month.
+ *
+ * ============================================================
+ */
+@Value
+@Builder(toBuilder = true)
+public class DatasetSpec {
+
+    @Builder.Default
+    long seed = 42;
+
+    @Builder.Default
+    int users = 100;
+
+    @Builder.Default
+    int transactionsPerUser = 1000;
+
+    /**
+     * Last day of the span; transactions fall on the preceding
+     * spanDays days.
+     */
+    @Builder.Default
+    LocalDate endDate = LocalDate.now();
+
+    @Builder.Default
+    int spanDays = 730;
+
+    /**
+     * Number of distinct expense categories, ranked by
+     * popularity.
+     */
+    @Builder.Default
+    int categories = 12;
+
+    /**
+     * Zipf exponent for expense categories: 0 is uniform, larger
+     * values concentrate spending in the top few.
+     */
+    @Builder.Default
+    double zipfExponent = 1.1;
+
+    /**
+     * Share of transactions that are income, 0 to 1.
+     */
+    @Builder.Default
+    double incomeShare = 0.05;
+
+    /**
+     * Share of transactions that carry notes, 0 to 1.
+     */
+    @Builder.Default
+    double notesShare = 0.3;
+
+    /**
+     * Plain-text password of every generated user.
+     */
+    @Builder.Default
+    String password = "benchmark-password";
+
+    @Builder.Default
+    String emailDomain = "example.com";
+
+    /**
+     * Reads --name=value arguments, using the builder's property
+     * names in kebab case (--transactions-per-user=5000).
+     * Unknown names are rejected.
+     */
+    public static DatasetSpec fromArgs(Map<String, String> args) {
+
+        DatasetSpecBuilder builder = DatasetSpec.builder();
+
+        args.forEach((name, value) -> {
+
+            switch (name) {
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "users" -> builder.users(Integer.parseInt(value));
+                case "transactions-per-user" -> builder.transactionsPerUser(Integer.parseInt(value));
+                case "end-date" -> builder.endDate(LocalDate.parse(value));
+                case "span-days" -> builder.spanDays(Integer.parseInt(value));
+                case "categories" -> builder.categories(Integer.parseInt(value));
+                case "zipf-exponent" -> builder.zipfExponent(Double.parseDouble(value));
+                case "income-share" -> builder.incomeShare(Double.parseDouble(value));
+                case "notes-share" -> builder.notesShare(Double.parseDouble(value));
+                case "password" -> builder.password(value);
+                case "email-domain" -> builder.emailDomain(value);
+                default -> throw new IllegalArgumentException("Unknown dataset option: --" + name);
+            }
+
+        });
+
+        return builder.build().validate();
+
+    }
+
+    public long getTotalTransactions() {
+
+        return (long) users * transactionsPerUser;
+
+    }
+
+    public DatasetSpec validate() {
+
+        if (users < 1 || transactionsPerUser < 0 || spanDays < 1 || categories < 1) {
+
+            throw new IllegalArgumentException("users, span-days and categories must be positive.");
+
+        }
+
+        if (incomeShare < 0 || incomeShare > 1 || notesShare < 0 || notesShare > 1) {
+
+            throw new IllegalArgumentException("income-share and notes-share must be between 0 and 1.");
+
+        }
+
+        if (zipfExponent < 0) {
+
+            throw new IllegalArgumentException("zipf-exponent must not be negative.");
+
+        }
+
+        return this;
+
+    }
+
+}
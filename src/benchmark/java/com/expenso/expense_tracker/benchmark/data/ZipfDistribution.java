@@ -0,0 +1,49 @@
+package com.expenso.expense_tracker.benchmark.data;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to
+ * 1 / (rank + 1)^exponent.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(
+            int size,
+            double exponent
+    ) {
+
+        cumulative = new double[size];
+
+        double total = 0;
+
+        for (int rank = 0; rank < size; rank++) {
+
+            total += 1.0 / Math.pow(rank + 1, exponent);
+
+            cumulative[rank] = total;
+
+        }
+
+        for (int rank = 0; rank < size; rank++) {
+
+            cumulative[rank] /= total;
+
+        }
+
+    }
+
+    int sample(SplittableRandom random) {
+
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+
+        int rank = index >= 0 ? index : -index - 1;
+
+        return Math.min(rank, cumulative.length - 1);
+
+    }
+
+}
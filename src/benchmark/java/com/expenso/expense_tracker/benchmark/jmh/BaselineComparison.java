@@ -0,0 +1,144 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files, matching runs by
+ * benchmark name and parameters.
+ */
+final class BaselineComparison {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private BaselineComparison() {
+    }
+
+    /**
+     * Prints one line per run and returns how many regressed: by
+     * more than thresholdPercent, and with error bars that do not
+     * overlap the baseline's so run-to-run noise is not flagged.
+     */
+    static int compare(
+            Path baselineFile,
+            Path resultFile,
+            double thresholdPercent
+    ) throws IOException {
+
+        Map<String, JsonNode> baseline = index(JSON.readTree(baselineFile.toFile()));
+
+        Map<String, JsonNode> results = index(JSON.readTree(resultFile.toFile()));
+
+        int regressions = 0;
+
+        System.out.println();
+        System.out.printf("Compared with %s (threshold %.0f%%)%n", baselineFile, thresholdPercent);
+
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+
+            JsonNode current = entry.getValue();
+
+            JsonNode previous = baseline.get(entry.getKey());
+
+            double score = current.path("primaryMetric").path("score").asDouble();
+
+            String unit = current.path("primaryMetric").path("scoreUnit").asText();
+
+            if (previous == null) {
+
+                System.out.printf("  NEW         %-70s %14.3f %s%n", entry.getKey(), score, unit);
+
+                continue;
+
+            }
+
+            double before = previous.path("primaryMetric").path("score").asDouble();
+
+            double error = error(current) + error(previous);
+
+            double change = (score - before) / before * 100.0;
+
+            boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+
+            double slowdown = higherIsBetter ? -change : change;
+
+            String verdict;
+
+            boolean significant = Math.abs(score - before) > error;
+
+            if (slowdown > thresholdPercent && significant) {
+
+                verdict = "REGRESSED";
+
+                regressions++;
+
+            } else if (slowdown < -thresholdPercent && significant) {
+
+                verdict = "IMPROVED";
+
+            } else {
+
+                verdict = "ok";
+
+            }
+
+            System.out.printf(
+                    "  %-11s %-70s %14.3f %s  (baseline %.3f, %+.1f%%)%n",
+                    verdict,
+                    entry.getKey(),
+                    score,
+                    unit,
+                    before,
+                    change
+            );
+
+        }
+
+        return regressions;
+
+    }
+
+    /**
+     * 99.9% confidence half-width; 0 when JMH could not compute one.
+     */
+    private static double error(JsonNode run) {
+
+        double error = run.path("primaryMetric").path("scoreError").asDouble();
+
+        return Double.isNaN(error) ? 0 : error;
+
+    }
+
+    private static Map<String, JsonNode> index(JsonNode runs) {
+
+        Map<String, JsonNode> index = new LinkedHashMap<>();
+
+        for (JsonNode run : runs) {
+
+            Map<String, String> params = new TreeMap<>();
+
+            run.path("params").fields().forEachRemaining(
+                    param -> params.put(param.getKey(), param.getValue().asText())
+            );
+
+            String benchmark = run.path("benchmark").asText();
+
+            index.put(
+                    benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1)
+                            + (params.isEmpty() ? "" : " " + params),
+                    run
+            );
+
+        }
+
+        return index;
+
+    }
+
+}
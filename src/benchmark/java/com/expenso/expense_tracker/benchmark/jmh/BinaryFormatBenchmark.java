@@ -0,0 +1,147 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator;
+import com.expenso.expense_tracker.benchmark.data.DatasetSpec;
+import com.expenso.expense_tracker.config.JacksonConfig;
+import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.expenso.expense_tracker.dto.common.PageResponse;
+import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.mapper.TransactionMapperImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * A transaction list response in each negotiable encoding:
+ * server-side serialization, and parsing the way a generic
+ * client would (into a tree).
+ *
+ * Raw and gzipped payload sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Payload {
+
+        @Param({"json", "cbor", "smile"})
+        public String format;
+
+        @Param({"100", "1000"})
+        public int items;
+
+        ObjectMapper objectMapper;
+
+        ApiResponse<PageResponse<TransactionDTO>> response;
+
+        byte[] encoded;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+
+            ObjectMapper json = new JacksonConfig().objectMapper();
+
+            objectMapper = switch (format) {
+
+                case "json" -> json;
+
+                case "cbor" -> json.copyWith(new CBORFactory());
+
+                case "smile" -> json.copyWith(new SmileFactory());
+
+                default -> throw new IllegalArgumentException("Unknown format: " + format);
+
+            };
+
+            DatasetGenerator generator = new DatasetGenerator(
+                    DatasetSpec.builder()
+                            .seed(TransactionDataState.SEED)
+                            .users(1)
+                            .transactionsPerUser(items)
+                            .build()
+            );
+
+            List<TransactionDTO> transactions = new TransactionMapperImpl().toTransactionDTOList(
+                    generator.transactions(generator.user(0), 1)
+            );
+
+            response = ApiResponse.<PageResponse<TransactionDTO>>builder()
+                    .success(true)
+                    .message("Transactions fetched successfully.")
+                    .data(PageResponse.<TransactionDTO>builder()
+                            .items(transactions)
+                            .page(0)
+                            .size(items)
+                            .hasNext(true)
+                            .nextPage(1)
+                            .total(10_000L)
+                            .build())
+                    .build();
+
+            encoded = objectMapper.writeValueAsBytes(response);
+
+            System.out.printf(
+                    "%nPayload with %d items as %s: %d bytes, %d bytes gzipped%n",
+                    items,
+                    format,
+                    encoded.length,
+                    gzippedSize(encoded)
+            );
+
+        }
+
+        private static int gzippedSize(byte[] bytes) throws IOException {
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+
+                gzip.write(bytes);
+
+            }
+
+            return buffer.size();
+
+        }
+
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+
+        return payload.objectMapper.writeValueAsBytes(payload.response);
+
+    }
+
+    @Benchmark
+    public JsonNode parse(Payload payload) throws IOException {
+
+        return payload.objectMapper.readTree(payload.encoded);
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenso.expense_tracker.dto.category.CategoryResponse;
+
+/**
+ * CategoryService.getCategories: distinct, normalized, sorted
+ * category names from every transaction the user owns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class CategoryServiceBenchmark {
+
+    @Benchmark
+    public List<CategoryResponse> getCategories(TransactionDataState state) {
+
+        return state.categoryService.getCategories(state.userId);
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenso.expense_tracker.dto.dashboard.DashboardResponse;
+
+/**
+ * DashboardService.getDashboard: month totals, six-month
+ * overview and expense breakdown assembled from rollup rows.
+ * Should stay flat as the dataset grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class DashboardServiceBenchmark {
+
+    @Benchmark
+    public DashboardResponse getDashboard(TransactionDataState state) {
+
+        return state.dashboardService.getDashboard(state.userId);
+
+    }
+
+}
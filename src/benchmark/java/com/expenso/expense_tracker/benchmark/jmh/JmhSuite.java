@@ -0,0 +1,80 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ============================================================
+ * JMH Suite
+ * ============================================================
+ *
+ * Runs the service-layer benchmarks, writes the results to
+ * target/jmh-result.json and compares them with the committed
+ * baseline. Exits with status 1 when any benchmark is slower
+ * than its baseline by more than jmh.threshold percent.
+ *
+ * Arguments are standard JMH options, for example a benchmark
+ * regex or -p size=1000.
+ *
+ * mvn -Pbenchmark compile exec:exec@jmh
+ *
+ * To refresh the baseline, run the full suite on the reference
+ * machine and copy the result over src/benchmark/jmh-baseline.json.
+ *
+ * ============================================================
+ */
+public final class JmhSuite {
+
+    private JmhSuite() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Path result = Path.of("target", "jmh-result.json");
+
+        Path baseline = Path.of(System.getProperty("jmh.baseline", "src/benchmark/jmh-baseline.json"));
+
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "20"));
+
+        Files.createDirectories(result.getParent());
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        OptionsBuilder options = new OptionsBuilder();
+
+        options.parent(commandLine)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString());
+
+        if (commandLine.getIncludes().isEmpty()) {
+
+            options.include(JmhSuite.class.getPackageName() + ".*Benchmark");
+
+        }
+
+        new Runner(options.build()).run();
+
+        if (!Files.exists(baseline)) {
+
+            System.out.println("No baseline at " + baseline + "; results are in " + result);
+
+            return;
+
+        }
+
+        int regressions = BaselineComparison.compare(baseline, result, threshold);
+
+        if (regressions > 0) {
+
+            System.exit(1);
+
+        }
+
+    }
+
+}
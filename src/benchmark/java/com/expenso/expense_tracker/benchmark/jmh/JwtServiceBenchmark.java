@@ -0,0 +1,80 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenso.expense_tracker.enums.UserRole;
+import com.expenso.expense_tracker.security.JwtClaims;
+import com.expenso.expense_tracker.security.JwtService;
+
+/**
+ * JwtService.parseToken: signature check plus claim extraction,
+ * run once per authenticated request. Independent of dataset
+ * size, so it has no size parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+
+    private String header;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+
+        jwtService = new JwtService();
+
+        set("jwtSecret", "benchmark-secret-benchmark-secret-benchmark-secret");
+
+        set("jwtExpiration", 3_600_000L);
+
+        jwtService.initialize();
+
+        header = "Bearer " + jwtService.generateToken(
+                new UUID(0, 1),
+                "benchmark@example.com",
+                UserRole.USER,
+                0
+        );
+
+    }
+
+    @Benchmark
+    public JwtClaims parseToken() {
+
+        return jwtService.parseToken(header);
+
+    }
+
+    private void set(
+            String name,
+            Object value
+    ) throws ReflectiveOperationException {
+
+        Field field = JwtService.class.getDeclaredField(name);
+
+        field.setAccessible(true);
+
+        field.set(jwtService, value);
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenso.expense_tracker.service.TransactionService;
+
+/**
+ * TransactionService.normalizeCategory, run for every written
+ * transaction and every category filter. Measured per call on
+ * an already clean value and on one that needs collapsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NormalizeCategoryBenchmark {
+
+    @Param({"Groceries", "  Eating   Out\t "})
+    public String category;
+
+    @Benchmark
+    public String normalizeCategory() {
+
+        return TransactionService.normalizeCategory(category);
+
+    }
+
+}
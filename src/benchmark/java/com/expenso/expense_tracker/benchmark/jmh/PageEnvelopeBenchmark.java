@@ -0,0 +1,132 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator;
+import com.expenso.expense_tracker.benchmark.data.DatasetSpec;
+import com.expenso.expense_tracker.config.JacksonConfig;
+import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.expenso.expense_tracker.dto.common.PageResponse;
+import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.mapper.TransactionMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serializing one GET /api/transactions response: Spring
+ * Data's PageImpl (the previous format) against PageResponse,
+ * with the application's ObjectMapper.
+ *
+ * Payload sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageEnvelopeBenchmark {
+
+    private static final long TOTAL = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Pages {
+
+        @Param({"20", "100"})
+        public int pageSize;
+
+        ObjectMapper objectMapper;
+
+        ApiResponse<PageImpl<TransactionDTO>> springPage;
+
+        ApiResponse<PageResponse<TransactionDTO>> pageResponse;
+
+        @Setup(Level.Trial)
+        public void setUp() throws JsonProcessingException {
+
+            objectMapper = new JacksonConfig().objectMapper();
+
+            DatasetGenerator generator = new DatasetGenerator(
+                    DatasetSpec.builder()
+                            .seed(TransactionDataState.SEED)
+                            .users(1)
+                            .transactionsPerUser(pageSize)
+                            .build()
+            );
+
+            List<TransactionDTO> items = new TransactionMapperImpl().toTransactionDTOList(
+                    generator.transactions(generator.user(0), 1)
+            );
+
+            springPage = wrap(new PageImpl<>(
+                    items,
+                    PageRequest.of(0, pageSize, Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"))),
+                    TOTAL
+            ));
+
+            pageResponse = wrap(PageResponse.<TransactionDTO>builder()
+                    .items(items)
+                    .page(0)
+                    .size(pageSize)
+                    .hasNext(true)
+                    .nextPage(1)
+                    .total(TOTAL)
+                    .build());
+
+            int before = objectMapper.writeValueAsBytes(springPage).length;
+
+            int after = objectMapper.writeValueAsBytes(pageResponse).length;
+
+            System.out.printf(
+                    "%nPayload with %d items: PageImpl %d bytes, PageResponse %d bytes (%.1f%% smaller)%n",
+                    pageSize,
+                    before,
+                    after,
+                    (before - after) * 100.0 / before
+            );
+
+        }
+
+        private static <T> ApiResponse<T> wrap(T data) {
+
+            return ApiResponse.<T>builder()
+                    .success(true)
+                    .message("Transactions fetched successfully.")
+                    .data(data)
+                    .build();
+
+        }
+
+    }
+
+    @Benchmark
+    public byte[] springPage(Pages pages) throws JsonProcessingException {
+
+        return pages.objectMapper.writeValueAsBytes(pages.springPage);
+
+    }
+
+    @Benchmark
+    public byte[] pageResponse(Pages pages) throws JsonProcessingException {
+
+        return pages.objectMapper.writeValueAsBytes(pages.pageResponse);
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expenso.expense_tracker.dto.report.ReportResponse;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
+
+/**
+ * ReportService.getReport over the whole dataset: income and
+ * expense totals plus mapping every row to a DTO.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ReportServiceBenchmark {
+
+    @Benchmark
+    public ReportResponse getReport(TransactionDataState state) {
+
+        return state.reportService.getReport(
+                state.userId,
+                state.startDate,
+                state.endDate,
+                "Benchmark Report",
+                EnumSet.allOf(TransactionField.class)
+        );
+
+    }
+
+}
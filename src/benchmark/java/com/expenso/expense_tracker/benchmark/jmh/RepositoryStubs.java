@@ -0,0 +1,57 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories.
+ *
+ * Only the named query methods are answered; anything else
+ * fails loudly so a benchmark never measures a silent null.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <T> T stub(
+            Class<T> repository,
+            Map<String, Function<Object[], Object>> answers
+    ) {
+
+        return repository.cast(
+                Proxy.newProxyInstance(
+                        repository.getClassLoader(),
+                        new Class<?>[] {repository},
+                        (proxy, method, args) -> {
+
+                            Function<Object[], Object> answer = answers.get(method.getName());
+
+                            if (answer != null) {
+
+                                return answer.apply(args);
+
+                            }
+
+                            if (method.getDeclaringClass() == Object.class) {
+
+                                return switch (method.getName()) {
+                                    case "hashCode" -> System.identityHashCode(proxy);
+                                    case "equals" -> proxy == args[0];
+                                    default -> repository.getSimpleName() + " stub";
+                                };
+
+                            }
+
+                            throw new UnsupportedOperationException(
+                                    repository.getSimpleName() + "." + method.getName() + " is not stubbed"
+                            );
+
+                        }
+                )
+        );
+
+    }
+
+}
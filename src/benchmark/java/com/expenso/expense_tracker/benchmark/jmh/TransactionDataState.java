@@ -0,0 +1,289 @@
+package com.expenso.expense_tracker.benchmark.jmh;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator;
+import com.expenso.expense_tracker.benchmark.data.DatasetGenerator.GeneratedUser;
+import com.expenso.expense_tracker.benchmark.data.DatasetSpec;
+import com.expenso.expense_tracker.cache.UserPrincipalCache;
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.mapper.TransactionMapper;
+import com.expenso.expense_tracker.mapper.TransactionMapperImpl;
+import com.expenso.expense_tracker.model.Transaction;
+import com.expenso.expense_tracker.model.User;
+import com.expenso.expense_tracker.repository.TransactionRepository;
+import com.expenso.expense_tracker.repository.UserMonthlyRollupRepository;
+import com.expenso.expense_tracker.repository.UserRepository;
+import com.expenso.expense_tracker.repository.projection.CategoryTotal;
+import com.expenso.expense_tracker.repository.projection.MonthlyTypeTotal;
+import com.expenso.expense_tracker.service.CategoryService;
+import com.expenso.expense_tracker.service.DashboardService;
+import com.expenso.expense_tracker.service.ReportService;
+
+/**
+ * ============================================================
+ * Transaction Data State
+ * ============================================================
+ *
+ * One user's synthetic transactions, and the services wired
+ * to repositories that answer from memory. Query results are
+ * precomputed so the measured time is the service's own work,
+ * not the stub's; database cost is out of scope here.
+ *
+ * ============================================================
+ */
+@State(Scope.Benchmark)
+public class TransactionDataState {
+
+    static final long SEED = 20_260_101L;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    public UUID userId;
+
+    public LocalDate startDate;
+
+    public LocalDate endDate;
+
+    public List<Transaction> transactions;
+
+    public TransactionMapper transactionMapper;
+
+    public DashboardService dashboardService;
+
+    public ReportService reportService;
+
+    public CategoryService categoryService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        endDate = LocalDate.now();
+
+        DatasetGenerator generator = new DatasetGenerator(
+                DatasetSpec.builder()
+                        .seed(SEED)
+                        .users(1)
+                        .transactionsPerUser(size)
+                        .endDate(endDate)
+                        .build()
+        );
+
+        GeneratedUser user = generator.user(0);
+
+        userId = user.id();
+
+        transactions = generator.transactions(user, 1);
+
+        transactions.sort(
+                Comparator.comparing(Transaction::getDate)
+                        .thenComparing(Transaction::getId)
+                        .reversed()
+        );
+
+        startDate = transactions.getLast().getDate();
+
+        transactionMapper = new TransactionMapperImpl();
+
+        TransactionRepository transactionRepository = transactionRepository();
+
+        UserMonthlyRollupRepository rollupRepository = rollupRepository();
+
+        dashboardService = new DashboardService(
+                userPrincipalCache(),
+                transactionRepository,
+                rollupRepository,
+                transactionMapper
+        );
+
+        reportService = new ReportService(
+                transactionRepository,
+                rollupRepository,
+                transactionMapper,
+                null
+        );
+
+        categoryService = new CategoryService(transactionRepository);
+
+    }
+
+    private TransactionRepository transactionRepository() {
+
+        List<Transaction> recent = List.copyOf(transactions.subList(0, Math.min(5, transactions.size())));
+
+        return RepositoryStubs.stub(TransactionRepository.class, Map.of(
+                "findTop5ByUserIdOrderByDateDescIdDesc", args -> recent,
+                "findByUserIdOrderByDateDesc", args -> transactions,
+                "findByUserIdAndDateBetweenOrderByDateDesc", args -> transactions
+        ));
+
+    }
+
+    /**
+     * Rollups are what the database would hold: one total per
+     * month and type, and per month, type and category.
+     */
+    private UserMonthlyRollupRepository rollupRepository() {
+
+        Map<YearMonth, Map<TransactionType, BigDecimal>> byType = new TreeMap<>();
+
+        Map<YearMonth, Map<String, BigDecimal>> expenseByCategory = new HashMap<>();
+
+        for (Transaction transaction : transactions) {
+
+            YearMonth month = YearMonth.from(transaction.getDate());
+
+            byType.computeIfAbsent(month, key -> new EnumMap<>(TransactionType.class))
+                    .merge(transaction.getType(), transaction.getAmount(), BigDecimal::add);
+
+            if (transaction.getType() == TransactionType.EXPENSE) {
+
+                expenseByCategory.computeIfAbsent(month, key -> new HashMap<>())
+                        .merge(transaction.getCategory(), transaction.getAmount(), BigDecimal::add);
+
+            }
+
+        }
+
+        Map<LocalDate, List<MonthlyTypeTotal>> typeTotals = new HashMap<>();
+
+        byType.forEach((month, totals) -> {
+
+            List<MonthlyTypeTotal> rows = new ArrayList<>();
+
+            totals.forEach((type, total) -> rows.add(
+                    new TypeTotal(month.getYear(), month.getMonthValue(), type, total)
+            ));
+
+            typeTotals.put(month.atDay(1), List.copyOf(rows));
+
+        });
+
+        Map<LocalDate, List<CategoryTotal>> categoryTotals = new HashMap<>();
+
+        expenseByCategory.forEach((month, totals) -> categoryTotals.put(
+                month.atDay(1),
+                totals.entrySet()
+                        .stream()
+                        .<CategoryTotal>map(entry -> new CategorySum(entry.getKey(), entry.getValue()))
+                        .sorted(Comparator.comparing(CategoryTotal::getTotal).reversed())
+                        .toList()
+        ));
+
+        return RepositoryStubs.stub(UserMonthlyRollupRepository.class, Map.of(
+                "sumByMonthAndType", args -> {
+
+                    List<MonthlyTypeTotal> rows = new ArrayList<>();
+
+                    for (LocalDate period = (LocalDate) args[1];
+                            !period.isAfter((LocalDate) args[2]);
+                            period = period.plusMonths(1)) {
+
+                        rows.addAll(typeTotals.getOrDefault(period, List.of()));
+
+                    }
+
+                    return rows;
+
+                },
+                "sumByCategory", args -> categoryTotals.getOrDefault((LocalDate) args[2], List.of())
+        ));
+
+    }
+
+    private UserPrincipalCache userPrincipalCache() {
+
+        User user = User.builder()
+                .id(userId)
+                .name("Benchmark")
+                .email("benchmark@example.com")
+                .password("unused")
+                .active(true)
+                .build();
+
+        UserRepository userRepository = RepositoryStubs.stub(UserRepository.class, Map.of(
+                "findByIdAndActiveTrue", args -> Optional.of(user)
+        ));
+
+        return new UserPrincipalCache(userRepository, 10, Duration.ofHours(1));
+
+    }
+
+    private record TypeTotal(
+            Integer periodYear,
+            Integer periodMonth,
+            TransactionType type,
+            BigDecimal total
+    ) implements MonthlyTypeTotal {
+
+        @Override
+        public Integer getPeriodYear() {
+
+            return periodYear;
+
+        }
+
+        @Override
+        public Integer getPeriodMonth() {
+
+            return periodMonth;
+
+        }
+
+        @Override
+        public TransactionType getType() {
+
+            return type;
+
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+
+            return total;
+
+        }
+
+    }
+
+    private record CategorySum(
+            String category,
+            BigDecimal total
+    ) implements CategoryTotal {
+
+        @Override
+        public String getCategory() {
+
+            return category;
+
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+
+            return total;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.expenso.expense_tracker.cache;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.expenso.expense_tracker.dto.admin.CacheStatsResponse;
+import com.expenso.expense_tracker.dto.dashboard.DashboardResponse;
+import com.expenso.expense_tracker.event.TransactionsChangedEvent;
+import com.expenso.expense_tracker.service.DashboardService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * ============================================================
+ * Dashboard Cache
+ * ============================================================
+ *
+ * Bounded cache in front of DashboardService.getDashboard,
+ * keyed by (user, month).
+ *
+ * • Size-bounded with eviction of cold entries
+ * • Concurrent misses for one key share a single load
+ * • Invalidated after any committed transaction write
+ *
+ * Invalidation bumps a per-user version that is part of the
+ * key instead of removing entries. A load that raced with a
+ * write is stored under the old version and never served.
+ *
+ * ============================================================
+ */
+@Component
+public class DashboardCache implements MonitoredCache {
+
+    private static final String CACHE_NAME = "dashboard";
+
+    private final DashboardService dashboardService;
+
+    private final Cache<Key, DashboardResponse> dashboards;
+
+    /**
+     * Expires no sooner than the dashboards cached under it,
+     * so a version can only reset once those are gone.
+     */
+    private final Cache<UUID, Long> versions;
+
+    public DashboardCache(
+            DashboardService dashboardService,
+            @Value("${app.cache.dashboard.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.dashboard.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+
+        this.dashboardService = dashboardService;
+
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        this.versions = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterWrite)
+                .build();
+
+    }
+
+    /**
+     * ============================================================
+     * Get Dashboard
+     * ============================================================
+     */
+    public DashboardResponse getDashboard(
+            UUID userId,
+            YearMonth month
+    ) {
+
+        Key key = new Key(
+                userId,
+                month,
+                versions.get(userId, id -> 0L)
+        );
+
+        return dashboards.get(
+                key,
+                ignored -> dashboardService.getDashboard(
+                        userId,
+                        month
+                )
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Invalidate User
+     * ============================================================
+     */
+    public void invalidate(UUID userId) {
+
+        versions.asMap().merge(
+                userId,
+                1L,
+                Long::sum
+        );
+
+    }
+
+    /**
+     * Runs after commit, so a reload always sees the write.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+
+        invalidate(event.getUserId());
+
+    }
+
+    @Override
+    public CacheStatsResponse stats() {
+
+        return MonitoredCache.snapshot(
+                CACHE_NAME,
+                dashboards
+        );
+
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(
+                registry,
+                dashboards,
+                CACHE_NAME
+        );
+
+    }
+
+    private record Key(
+            UUID userId,
+            YearMonth month,
+            long version
+    ) {
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.expenso.expense_tracker.cache;
+
+import com.expenso.expense_tracker.dto.admin.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Monitored Cache
+ *
+ * Implemented by every in-process cache that
+ * reports statistics on the admin API and as
+ * Micrometer cache meters.
+ */
+public interface MonitoredCache extends MeterBinder {
+
+    CacheStatsResponse stats();
+
+    /**
+     * Snapshot Caffeine statistics.
+     */
+    static CacheStatsResponse snapshot(
+            String name,
+            Cache<?, ?> cache
+    ) {
+
+        CacheStats stats = cache.stats();
+
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadCount(stats.loadCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .evictionCount(stats.evictionCount())
+                .build();
+
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.expenso.expense_tracker.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.expenso.expense_tracker.dto.admin.CacheStatsResponse;
+import com.expenso.expense_tracker.event.UserAccountChangedEvent;
+import com.expenso.expense_tracker.model.User;
+import com.expenso.expense_tracker.repository.UserRepository;
+import com.expenso.expense_tracker.security.UserPrincipal;
+import com.expenso.expense_tracker.service.AuthService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * ============================================================
+ * User Principal Cache
+ * ============================================================
+ *
+ * Bounded, expiring cache of active users in front of
+ * UserRepository.findByIdAndActiveTrue and the email lookup
+ * of CustomUserDetailsService.
+ *
+ * • Size-bounded with eviction of cold entries
+ * • Entries expire after a fixed time
+ * • Concurrent misses for one key share a single load
+ * • Invalidated after any committed account change
+ *
+ * Inactive or unknown users are never cached. Emails cannot
+ * change, so the email index maps straight to user ids and
+ * only the principals need invalidating.
+ *
+ * ============================================================
+ */
+@Component
+public class UserPrincipalCache implements MonitoredCache {
+
+    private static final String CACHE_NAME = "user-principal";
+
+    private final UserRepository userRepository;
+
+    private final Cache<UUID, UserPrincipal> principals;
+
+    private final Cache<String, UUID> userIdsByEmail;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            @Value("${app.cache.user.maximum-size:50000}") long maximumSize,
+            @Value("${app.cache.user.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+
+        this.userRepository = userRepository;
+
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterWrite)
+                .build();
+
+    }
+
+    /**
+     * ============================================================
+     * Get Active User By ID
+     * ============================================================
+     */
+    public Optional<UserPrincipal> getActiveUser(UUID userId) {
+
+        return Optional.ofNullable(
+                principals.get(
+                        userId,
+                        id -> userRepository
+                                .findByIdAndActiveTrue(id)
+                                .map(UserPrincipal::new)
+                                .orElse(null)
+                )
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Get Active User By Email
+     * ============================================================
+     */
+    public Optional<UserPrincipal> getActiveUserByEmail(String email) {
+
+        String key = AuthService.normalizeEmail(email);
+
+        UUID userId = userIdsByEmail.getIfPresent(key);
+
+        if (userId != null) {
+
+            return getActiveUser(userId);
+
+        }
+
+        Optional<User> user = userRepository.findByEmailAndActiveTrue(key);
+
+        user.ifPresent(found -> userIdsByEmail.put(key, found.getId()));
+
+        /*
+         * The principal itself is loaded inside the cache, so an
+         * invalidation racing with this lookup cannot be lost.
+         */
+        return user.flatMap(found -> getActiveUser(found.getId()));
+
+    }
+
+    /**
+     * ============================================================
+     * Invalidate User
+     * ============================================================
+     */
+    public void invalidate(UUID userId) {
+
+        principals.invalidate(userId);
+
+    }
+
+    /**
+     * Runs after commit, so a reload always sees the change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+
+        invalidate(event.getUserId());
+
+    }
+
+    @Override
+    public CacheStatsResponse stats() {
+
+        return MonitoredCache.snapshot(
+                CACHE_NAME,
+                principals
+        );
+
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        CaffeineCacheMetrics.monitor(
+                registry,
+                principals,
+                CACHE_NAME
+        );
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.expenso.expense_tracker.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database Features
+ *
+ * Detects the database product once at startup so services can
+ * pick PostgreSQL-specific query paths and fall back to portable
+ * JPQL elsewhere (e.g. H2).
+ */
+@Component
+public class DatabaseFeatures {
+
+    private final boolean postgreSql;
+
+    private final boolean fullTextSearchEnabled;
+
+    public DatabaseFeatures(
+            DataSource dataSource,
+            @Value("${app.search.full-text-enabled:true}") boolean fullTextSearchEnabled
+    ) {
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            this.postgreSql = "PostgreSQL".equalsIgnoreCase(
+                    connection.getMetaData().getDatabaseProductName()
+            );
+
+        } catch (SQLException exception) {
+
+            throw new IllegalStateException(
+                    "Could not detect database product.",
+                    exception
+            );
+
+        }
+
+        this.fullTextSearchEnabled = postgreSql && fullTextSearchEnabled;
+
+    }
+
+    public boolean isPostgreSql() {
+
+        return postgreSql;
+
+    }
+
+    /**
+     * PostgreSQL full-text search (tsvector / tsquery).
+     */
+    public boolean isFullTextSearchEnabled() {
+
+        return fullTextSearchEnabled;
+
+    }
+
+}
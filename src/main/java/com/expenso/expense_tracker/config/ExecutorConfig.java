@@ -0,0 +1,66 @@
+package com.expenso.expense_tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor Configuration
+ *
+ * Bounded pools for background work. Full pools reject new
+ * tasks instead of queueing them without limit.
+ *
+ * spring.task.execution.mode=force keeps Boot's own
+ * applicationTaskExecutor (used for async MVC responses)
+ * alongside these beans.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Persists CSV import batches while the request thread parses.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor importExecutor(
+            @Value("${app.import.workers:4}") int workers) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * Runs BCrypt hashing for signup and login off the request
+     * threads. Sized to the cores by default; when every worker
+     * is busy and the queue is full, new work is rejected.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.security.bcrypt.workers:0}") int workers,
+            @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity) {
+
+        int poolSize = workers > 0
+                ? workers
+                : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bcrypt-");
+        executor.initialize();
+
+        return executor;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.expenso.expense_tracker.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Flyway Configuration
+ *
+ * Tables are owned by Hibernate (ddl-auto=update), so migrations
+ * run after the EntityManagerFactory has updated the schema
+ * instead of before it. This way they also work on an empty
+ * database, where the tables do not exist until Hibernate starts.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.flyway.enabled", matchIfMissing = true)
+public class FlywayConfig {
+
+    /**
+     * Skip Spring Boot's migrate-before-JPA step.
+     */
+    @Bean
+    public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+
+        return flyway -> {
+        };
+
+    }
+
+    /**
+     * Migrate once Hibernate has created / updated the tables.
+     */
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean flywayMigrateAfterHibernate(Flyway flyway) {
+
+        return flyway::migrate;
+
+    }
+
+}
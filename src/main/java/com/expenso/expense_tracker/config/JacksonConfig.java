@@ -7,14 +7,34 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
+import com.expenso.expense_tracker.web.TimedCborHttpMessageConverter;
+import com.expenso.expense_tracker.web.TimedJsonHttpMessageConverter;
+import com.expenso.expense_tracker.web.TimedSmileHttpMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 /**
  * Jackson Configuration
  *
  * Centralizes JSON serialization and deserialization settings
  * for the entire application.
+ *
+ * MVC writes JSON through TimedJsonHttpMessageConverter, which
+ * replaces Boot's default Jackson converter.
+ *
+ * Clients may ask for binary encodings of the same payloads
+ * with the Accept header:
+ *
+ * • application/cbor
+ * • application/x-jackson-smile
+ *
+ * Both are written by copies of this ObjectMapper, so they
+ * share its modules and settings. JSON stays the default.
  */
 @Configuration
 public class JacksonConfig {
@@ -52,4 +72,32 @@ public class JacksonConfig {
 
         return mapper;
     }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper
+    ) {
+
+        return new TimedJsonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            ObjectMapper objectMapper
+    ) {
+
+        return new TimedCborHttpMessageConverter(
+                objectMapper.copyWith(new CBORFactory())
+        );
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            ObjectMapper objectMapper
+    ) {
+
+        return new TimedSmileHttpMessageConverter(
+                objectMapper.copyWith(new SmileFactory())
+        );
+    }
 }
\ No newline at end of file
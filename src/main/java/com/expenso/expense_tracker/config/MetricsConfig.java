@@ -0,0 +1,45 @@
+package com.expenso.expense_tracker.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.expenso.expense_tracker.web.RequestQueryCounter;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics Configuration
+ *
+ * Enables @Timed on service methods and registers the
+ * per-request SQL statement counter with Hibernate.
+ *
+ * HTTP, JVM, Hikari, executor and Hibernate meters come from
+ * Actuator auto-configuration; everything is scraped from
+ * /api/admin/actuator/prometheus (ROLE_ADMIN).
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+
+        return new TimedAspect(meterRegistry);
+
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestQueryCounterCustomizer(
+            RequestQueryCounter requestQueryCounter
+    ) {
+
+        return properties -> properties.put(
+                AvailableSettings.STATEMENT_INSPECTOR,
+                requestQueryCounter
+        );
+
+    }
+
+}
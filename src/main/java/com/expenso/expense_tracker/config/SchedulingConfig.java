@@ -0,0 +1,15 @@
+package com.expenso.expense_tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ *
+ * Enables @Scheduled maintenance jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
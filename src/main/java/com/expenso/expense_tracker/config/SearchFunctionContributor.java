@@ -0,0 +1,49 @@
+package com.expenso.expense_tracker.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Search Function Contributor
+ *
+ * Registers PostgreSQL full-text functions for Criteria queries.
+ * Registered through META-INF/services.
+ *
+ * The document expression must stay identical to the one in
+ * idx_transactions_search_vector, or the index is not used.
+ *
+ * • fts_match(category, notes, tsquery) -> boolean
+ * • fts_rank(category, notes, tsquery)  -> double
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    private static final String DOCUMENT =
+            "to_tsvector('simple', coalesce(?1, '') || ' ' || coalesce(?2, ''))";
+
+    private static final String QUERY =
+            "to_tsquery('simple', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+
+        BasicTypeRegistry types = functionContributions
+                .getTypeConfiguration()
+                .getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_match",
+                DOCUMENT + " @@ " + QUERY,
+                types.resolve(StandardBasicTypes.BOOLEAN)
+        );
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_rank",
+                "ts_rank(" + DOCUMENT + ", " + QUERY + ")",
+                types.resolve(StandardBasicTypes.DOUBLE)
+        );
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.expenso.expense_tracker.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.expenso.expense_tracker.security.JwtClaimsArgumentResolver;
+
+/**
+ * Web MVC Configuration
+ *
+ * Registers the JwtClaims handler argument.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+
+        resolvers.add(new JwtClaimsArgumentResolver());
+
+    }
+
+}
@@ -0,0 +1,383 @@
+package com.expenso.expense_tracker.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.expenso.expense_tracker.cache.MonitoredCache;
+import com.expenso.expense_tracker.dto.admin.CacheStatsResponse;
+import com.expenso.expense_tracker.dto.admin.OperationStatsResponse;
+import com.expenso.expense_tracker.dto.admin.RecordingStatusResponse;
+import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.expenso.expense_tracker.dto.rollup.RollupVerificationResponse;
+import com.expenso.expense_tracker.jfr.FlightRecordingService;
+import com.expenso.expense_tracker.security.PasswordHashingService;
+import com.expenso.expense_tracker.service.MonthlyRollupService;
+import com.expenso.expense_tracker.service.RollupMaintenanceJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================
+ * Admin Controller
+ * ============================================================
+ *
+ * Handles
+ *
+ * • Rollup Verification / Rebuild
+ * • Cache Statistics
+ * • Password Hashing Statistics
+ * • Flight Recordings (JFR)
+ *
+ * Metrics are exported by the actuator, not this controller:
+ *
+ * /api/admin/actuator/prometheus
+ *
+ * Base URL:
+ *
+ * /api/admin
+ *
+ * Restricted to ROLE_ADMIN by SecurityConfig.
+ *
+ * ============================================================
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    private final RollupMaintenanceJob rollupMaintenanceJob;
+
+    private final List<MonitoredCache> caches;
+
+    private final PasswordHashingService passwordHashingService;
+
+    private final FlightRecordingService flightRecordingService;
+
+    /**
+     * ============================================================
+     * Verify Rollups
+     * ============================================================
+     *
+     * Example:
+     *
+     * POST /api/admin/rollups/verify
+     *
+     * POST /api/admin/rollups/verify?userId=...&repair=true
+     *
+     * Without userId every user is checked and only users
+     * with drift are returned.
+     *
+     * ============================================================
+     */
+    @PostMapping("/rollups/verify")
+    public ResponseEntity<ApiResponse<List<RollupVerificationResponse>>> verifyRollups(
+
+            @RequestParam(required = false)
+            UUID userId,
+
+            @RequestParam(defaultValue = "false")
+            boolean repair
+
+    ) {
+
+        List<RollupVerificationResponse> response =
+
+                userId == null
+
+                        ? rollupMaintenanceJob.verifyAll(repair)
+
+                        : List.of(
+                                monthlyRollupService.verify(
+                                        userId,
+                                        repair
+                                )
+                        );
+
+        ApiResponse<List<RollupVerificationResponse>> apiResponse =
+
+                ApiResponse.<List<RollupVerificationResponse>>builder()
+
+                        .success(true)
+
+                        .message("Rollup verification completed.")
+
+                        .data(response)
+
+                        .build();
+
+        return ResponseEntity.ok(
+
+                apiResponse
+
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Cache Statistics
+     * ============================================================
+     *
+     * Example:
+     *
+     * GET /api/admin/caches
+     *
+     * ============================================================
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+
+        List<CacheStatsResponse> response =
+
+                caches.stream()
+
+                        .map(MonitoredCache::stats)
+
+                        .toList();
+
+        ApiResponse<List<CacheStatsResponse>> apiResponse =
+
+                ApiResponse.<List<CacheStatsResponse>>builder()
+
+                        .success(true)
+
+                        .message("Cache statistics fetched successfully.")
+
+                        .data(response)
+
+                        .build();
+
+        return ResponseEntity.ok(
+
+                apiResponse
+
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Password Hashing Statistics
+     * ============================================================
+     *
+     * Example:
+     *
+     * GET /api/admin/password-hashing
+     *
+     * ============================================================
+     */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<ApiResponse<List<OperationStatsResponse>>> getPasswordHashingStats() {
+
+        ApiResponse<List<OperationStatsResponse>> apiResponse =
+
+                ApiResponse.<List<OperationStatsResponse>>builder()
+
+                        .success(true)
+
+                        .message("Password hashing statistics fetched successfully.")
+
+                        .data(passwordHashingService.stats())
+
+                        .build();
+
+        return ResponseEntity.ok(
+
+                apiResponse
+
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Flight Recording Status
+     * ============================================================
+     *
+     * Example:
+     *
+     * GET /api/admin/jfr
+     *
+     * ============================================================
+     */
+    @GetMapping("/jfr")
+    public ResponseEntity<ApiResponse<RecordingStatusResponse>> getRecordingStatus() {
+
+        return recordingResponse(
+
+                "Flight recording status fetched successfully.",
+
+                flightRecordingService.status()
+
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Start Flight Recording
+     * ============================================================
+     *
+     * Example:
+     *
+     * POST /api/admin/jfr/start
+     *
+     * POST /api/admin/jfr/start?settings=profile&duration=5m
+     *
+     * Without a duration the recording runs until stopped,
+     * keeping the last app.jfr.max-age of data.
+     *
+     * ============================================================
+     */
+    @PostMapping("/jfr/start")
+    public ResponseEntity<ApiResponse<RecordingStatusResponse>> startRecording(
+
+            @RequestParam(defaultValue = "default")
+            String settings,
+
+            @RequestParam(required = false)
+            @DurationFormat(style = DurationFormat.Style.SIMPLE)
+            Duration duration
+
+    ) {
+
+        return recordingResponse(
+
+                "Flight recording started.",
+
+                flightRecordingService.start(
+
+                        settings,
+
+                        duration
+
+                )
+
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Stop Flight Recording
+     * ============================================================
+     *
+     * Example:
+     *
+     * POST /api/admin/jfr/stop
+     *
+     * ============================================================
+     */
+    @PostMapping("/jfr/stop")
+    public ResponseEntity<ApiResponse<RecordingStatusResponse>> stopRecording() {
+
+        return recordingResponse(
+
+                "Flight recording stopped.",
+
+                flightRecordingService.stop()
+
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Download Flight Recording
+     * ============================================================
+     *
+     * Example:
+     *
+     * GET /api/admin/jfr/dump
+     *
+     * Returns a .jfr file for JDK Mission Control or
+     * "jfr print". Works while the recording is running.
+     *
+     * ============================================================
+     */
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() throws IOException {
+
+        Path file = flightRecordingService.dump();
+
+        StreamingResponseBody body = outputStream -> {
+
+            try {
+
+                Files.copy(file, outputStream);
+
+            } finally {
+
+                Files.deleteIfExists(file);
+
+            }
+
+        };
+
+        String fileName = "expenso-" + Instant.now().getEpochSecond() + ".jfr";
+
+        return ResponseEntity.ok()
+
+                .header(
+
+                        HttpHeaders.CONTENT_DISPOSITION,
+
+                        ContentDisposition.attachment()
+                                .filename(fileName)
+                                .build()
+                                .toString()
+
+                )
+
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+
+                .contentLength(Files.size(file))
+
+                .body(body);
+
+    }
+
+    private ResponseEntity<ApiResponse<RecordingStatusResponse>> recordingResponse(
+
+            String message,
+
+            RecordingStatusResponse status
+
+    ) {
+
+        ApiResponse<RecordingStatusResponse> apiResponse =
+
+                ApiResponse.<RecordingStatusResponse>builder()
+
+                        .success(true)
+
+                        .message(message)
+
+                        .data(status)
+
+                        .build();
+
+        return ResponseEntity.ok(
+
+                apiResponse
+
+        );
+
+    }
+
+}
@@ -8,7 +8,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.expenso.expense_tracker.dto.category.CategoryResponse;
 import com.expenso.expense_tracker.dto.common.ApiResponse;
-import com.expenso.expense_tracker.security.JwtService;
+import com.expenso.expense_tracker.security.JwtClaims;
 import com.expenso.expense_tracker.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -35,30 +35,6 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
-    private final JwtService jwtService;
-
-    /**
-     * ============================================================
-     * Extract User ID From JWT
-     * ============================================================
-     *
-     * Temporary implementation.
-     *
-     * Later this will be replaced by
-     * @AuthenticationPrincipal.
-     *
-     * ============================================================
-     */
-    private UUID extractUserId(String authorizationHeader) {
-
-        return jwtService.extractUserId(
-
-                authorizationHeader
-
-        );
-
-    }
-
     /**
      * ============================================================
      * Get User Categories
@@ -67,16 +43,11 @@ public class CategoryController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories(
 
-            @RequestHeader("Authorization")
-            String authorizationHeader
+            JwtClaims claims
 
     ) {
 
-        UUID userId = extractUserId(
-
-                authorizationHeader
-
-        );
+        UUID userId = claims.getUserId();
 
         List<CategoryResponse> response =
 
@@ -1,15 +1,17 @@
 package com.expenso.expense_tracker.controller;
 
 import java.time.YearMonth;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.expenso.expense_tracker.cache.DashboardCache;
 import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.expenso.expense_tracker.dto.dashboard.DashboardField;
 import com.expenso.expense_tracker.dto.dashboard.DashboardResponse;
-import com.expenso.expense_tracker.security.JwtService;
-import com.expenso.expense_tracker.service.DashboardService;
+import com.expenso.expense_tracker.security.JwtClaims;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,31 +38,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final DashboardService dashboardService;
-
-    private final JwtService jwtService;
-
-    /**
-     * ============================================================
-     * Extract User ID From JWT
-     * ============================================================
-     *
-     * Temporary implementation.
-     *
-     * Later this will be replaced by
-     * @AuthenticationPrincipal.
-     *
-     * ============================================================
-     */
-    private UUID extractUserId(String authorizationHeader) {
-
-        return jwtService.extractUserId(
-
-                authorizationHeader
-
-        );
-
-    }
+    private final DashboardCache dashboardCache;
 
     /**
      * ============================================================
@@ -73,46 +51,51 @@ public class DashboardController {
      *
      * GET /api/dashboard?month=2026-07
      *
+     * GET /api/dashboard?fields=monthlyIncome,monthlyExpense
+     *
+     * fields limits the response to the listed sections. The
+     * dashboard is cached whole, so this only trims the payload.
+     *
      * ============================================================
      */
     @GetMapping
     public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(
 
-            @RequestHeader("Authorization")
-            String authorizationHeader,
+            JwtClaims claims,
 
             @RequestParam(required = false)
-            String month
+            String month,
+
+            @RequestParam(required = false)
+            String fields
 
     ) {
 
-        UUID userId = extractUserId(
+        UUID userId = claims.getUserId();
 
-                authorizationHeader
+        Set<DashboardField> selectedFields = DashboardField.parse(fields);
 
-        );
+        YearMonth selectedMonth =
 
-        DashboardResponse response;
+                (month == null || month.isBlank())
 
-        if (month == null || month.isBlank()) {
+                        ? YearMonth.now()
 
-            response = dashboardService.getDashboard(
+                        : YearMonth.parse(month);
 
-                    userId
+        DashboardResponse response = DashboardField.select(
 
-            );
+                dashboardCache.getDashboard(
 
-        } else {
+                        userId,
 
-            response = dashboardService.getDashboard(
+                        selectedMonth
 
-                    userId,
+                ),
 
-                    YearMonth.parse(month)
+                selectedFields
 
-            );
-
-        }
+        );
 
         ApiResponse<DashboardResponse> apiResponse =
 
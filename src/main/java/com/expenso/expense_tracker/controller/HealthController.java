@@ -4,23 +4,42 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Public liveness summary.
+ *
+ * The status comes from the actuator health indicators
+ * (database, disk space). Details are only served under
+ * /api/admin/actuator/health.
+ */
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HealthEndpoint healthEndpoint;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> healthCheck() {
 
+        Status status = healthEndpoint.health().getStatus();
+
         Map<String, Object> response = new LinkedHashMap<>();
 
-        response.put("status", "UP");
+        response.put("status", status.getCode());
         response.put("service", "Expensoo Backend");
         response.put("version", "1.0.0");
         response.put("timestamp", Instant.now());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity
+                .status(Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(response);
     }
-}
\ No newline at end of file
+}
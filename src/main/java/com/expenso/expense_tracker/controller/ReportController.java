@@ -1,16 +1,27 @@
 package com.expenso.expense_tracker.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.UUID;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.expenso.expense_tracker.dto.common.ApiResponse;
 import com.expenso.expense_tracker.dto.report.ReportResponse;
-import com.expenso.expense_tracker.security.JwtService;
+import com.expenso.expense_tracker.dto.report.ReportSummaryDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
+import com.expenso.expense_tracker.exception.BadRequestException;
+import com.expenso.expense_tracker.export.ExportFormat;
+import com.expenso.expense_tracker.export.ReportExportWriter;
+import com.expenso.expense_tracker.security.JwtClaims;
 import com.expenso.expense_tracker.service.ReportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +34,11 @@ import lombok.RequiredArgsConstructor;
  *
  * • Monthly Report
  * • Custom Date Range Report
+ * • Custom Report Export (CSV / NDJSON)
+ *
+ * Monthly and custom reports accept fields, which limits
+ * each transaction to the listed properties (id, amount,
+ * category, type, date, notes). Totals are always included.
  *
  * Base URL:
  *
@@ -37,29 +53,7 @@ public class ReportController {
 
     private final ReportService reportService;
 
-    private final JwtService jwtService;
-
-    /**
-     * ============================================================
-     * Extract User ID From JWT
-     * ============================================================
-     *
-     * Temporary implementation.
-     *
-     * Later this will be replaced by
-     * @AuthenticationPrincipal.
-     *
-     * ============================================================
-     */
-    private UUID extractUserId(String authorizationHeader) {
-
-        return jwtService.extractUserId(
-
-                authorizationHeader
-
-        );
-
-    }
+    private final ObjectMapper objectMapper;
 
     /**
      * ============================================================
@@ -72,24 +66,24 @@ public class ReportController {
      *
      * GET /api/reports/monthly?month=2026-07
      *
+     * GET /api/reports/monthly?month=2026-07&fields=date,amount,category
+     *
      * ============================================================
      */
     @GetMapping("/monthly")
     public ResponseEntity<ApiResponse<ReportResponse>> getMonthlyReport(
 
-            @RequestHeader("Authorization")
-            String authorizationHeader,
+            JwtClaims claims,
 
             @RequestParam(required = false)
-            String month
-
-    ) {
+            String month,
 
-        UUID userId = extractUserId(
+            @RequestParam(required = false)
+            String fields
 
-                authorizationHeader
+    ) {
 
-        );
+        UUID userId = claims.getUserId();
 
         YearMonth selectedMonth =
 
@@ -105,7 +99,9 @@ public class ReportController {
 
                         userId,
 
-                        selectedMonth
+                        selectedMonth,
+
+                        TransactionField.parse(fields)
 
                 );
 
@@ -139,28 +135,27 @@ public class ReportController {
      * GET /api/reports/custom
      *      ?startDate=2026-01-01
      *      &endDate=2026-01-31
+     *      &fields=date,amount
      *
      * ============================================================
      */
     @GetMapping("/custom")
     public ResponseEntity<ApiResponse<ReportResponse>> getCustomReport(
 
-            @RequestHeader("Authorization")
-            String authorizationHeader,
+            JwtClaims claims,
 
             @RequestParam
             LocalDate startDate,
 
             @RequestParam
-            LocalDate endDate
+            LocalDate endDate,
 
-    ) {
-
-        UUID userId = extractUserId(
+            @RequestParam(required = false)
+            String fields
 
-                authorizationHeader
+    ) {
 
-        );
+        UUID userId = claims.getUserId();
 
         ReportResponse response =
 
@@ -172,7 +167,9 @@ public class ReportController {
 
                         endDate,
 
-                        "Custom Report"
+                        "Custom Report",
+
+                        TransactionField.parse(fields)
 
                 );
 
@@ -196,4 +193,118 @@ public class ReportController {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * ============================================================
+     * Custom Report Export
+     * ============================================================
+     *
+     * Streams the custom report as a download, row by row from
+     * a database cursor, followed by a totals footer.
+     *
+     * Example:
+     *
+     * GET /api/reports/custom/export
+     *      ?startDate=2026-01-01
+     *      &endDate=2026-12-31
+     *      &format=csv
+     *
+     * ============================================================
+     */
+    @GetMapping("/custom/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomReport(
+
+            JwtClaims claims,
+
+            @RequestParam
+            LocalDate startDate,
+
+            @RequestParam
+            LocalDate endDate,
+
+            @RequestParam(defaultValue = "csv")
+            String format
+
+    ) {
+
+        UUID userId = claims.getUserId();
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        if (startDate.isAfter(endDate)) {
+
+            throw new BadRequestException(
+
+                    "Start date cannot be after end date."
+
+            );
+
+        }
+
+        StreamingResponseBody body = outputStream -> {
+
+            try (ReportExportWriter writer = new ReportExportWriter(
+
+                    exportFormat,
+
+                    objectMapper,
+
+                    outputStream
+
+            )) {
+
+                ReportSummaryDTO summary = reportService.streamReport(
+
+                        userId,
+
+                        startDate,
+
+                        endDate,
+
+                        "Custom Report",
+
+                        transaction -> {
+
+                            try {
+
+                                writer.write(transaction);
+
+                            } catch (IOException exception) {
+
+                                throw new UncheckedIOException(exception);
+
+                            }
+
+                        }
+
+                );
+
+                writer.writeSummary(summary);
+
+            }
+
+        };
+
+        String filename = "report-" + startDate + "-to-" + endDate + "." + exportFormat.getExtension();
+
+        return ResponseEntity
+
+                .ok()
+
+                .contentType(exportFormat.getMediaType())
+
+                .header(
+
+                        HttpHeaders.CONTENT_DISPOSITION,
+
+                        ContentDisposition.attachment()
+                                .filename(filename)
+                                .build()
+                                .toString()
+
+                )
+
+                .body(body);
+
+    }
+
+}
@@ -1,27 +1,46 @@
 package com.expenso.expense_tracker.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.expenso.expense_tracker.dto.common.PageResponse;
+import com.expenso.expense_tracker.dto.transaction.BatchTransactionRequest;
+import com.expenso.expense_tracker.dto.transaction.BatchTransactionResponse;
+import com.expenso.expense_tracker.dto.transaction.ImportResultResponse;
 import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
 import com.expenso.expense_tracker.dto.transaction.TransactionRequest;
 import com.expenso.expense_tracker.dto.transaction.TransactionResponse;
+import com.expenso.expense_tracker.enums.SearchMode;
 import com.expenso.expense_tracker.enums.TransactionType;
 import com.expenso.expense_tracker.exception.BadRequestException;
-import com.expenso.expense_tracker.security.JwtService;
+import com.expenso.expense_tracker.export.ExportFormat;
+import com.expenso.expense_tracker.export.JsonRowWriter;
+import com.expenso.expense_tracker.security.JwtClaims;
+import com.expenso.expense_tracker.service.TransactionImportService;
 import com.expenso.expense_tracker.service.TransactionService;
+import com.expenso.expense_tracker.specification.TransactionCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,27 +55,26 @@ public class TransactionController {
 
         private static final Set<String> ALLOWED_AMOUNT_SORTS = Set.of("asc", "desc");
 
+        private static final Set<ExportFormat> STREAM_FORMATS = EnumSet.of(
+                        ExportFormat.NDJSON,
+                        ExportFormat.JSON);
+
         private final TransactionService transactionService;
 
-        private final JwtService jwtService;
+        private final TransactionImportService transactionImportService;
 
-        private UUID extractUserId(
-                        String authorizationHeader) {
-                return jwtService.extractUserId(
-                                authorizationHeader);
-        }
+        private final ObjectMapper objectMapper;
 
         @PostMapping
         public ResponseEntity<ApiResponse<TransactionResponse>> createTransaction(
 
-                        @RequestHeader("Authorization") String authorizationHeader,
+                        JwtClaims claims,
 
                         @Valid @RequestBody TransactionRequest request
 
         ) {
 
-                UUID userId = extractUserId(
-                                authorizationHeader);
+                UUID userId = claims.getUserId();
 
                 TransactionResponse response = transactionService.createTransaction(
                                 userId,
@@ -75,17 +93,215 @@ public class TransactionController {
                                 .body(apiResponse);
         }
 
+        /**
+         * Creates up to 5000 transactions in one call.
+         *
+         * Example:
+         *
+         * POST /api/transactions/batch
+         *
+         * { "transactions": [ { "type": "EXPENSE", ... }, ... ] }
+         *
+         * Invalid items are reported by index and nothing is created.
+         */
+        @PostMapping("/batch")
+        public ResponseEntity<ApiResponse<BatchTransactionResponse>> createTransactions(
+
+                        JwtClaims claims,
+
+                        @Valid @RequestBody BatchTransactionRequest request
+
+        ) {
+
+                UUID userId = claims.getUserId();
+
+                BatchTransactionResponse response = transactionService.createTransactions(
+                                userId,
+                                request.getTransactions());
+
+                ApiResponse<BatchTransactionResponse> apiResponse = ApiResponse
+                                .<BatchTransactionResponse>builder()
+                                .success(true)
+                                .message(
+                                                "Transactions created successfully.")
+                                .data(response)
+                                .build();
+
+                return ResponseEntity
+                                .status(HttpStatus.CREATED)
+                                .body(apiResponse);
+        }
+
+        /**
+         * Imports a CSV bank export sent as the raw request body.
+         *
+         * The body is parsed as it arrives; rows that fail are
+         * listed with their line number and the rest are saved.
+         *
+         * Example:
+         *
+         * POST /api/transactions/import
+         *
+         * Content-Type: text/csv
+         *
+         * date,type,amount,category,notes
+         */
+        @PostMapping(value = "/import", consumes = {
+                        "text/csv",
+                        MediaType.TEXT_PLAIN_VALUE,
+                        MediaType.APPLICATION_OCTET_STREAM_VALUE
+        })
+        public ResponseEntity<ApiResponse<ImportResultResponse>> importTransactions(
+
+                        JwtClaims claims,
+
+                        InputStream body
+
+        ) {
+
+                UUID userId = claims.getUserId();
+
+                ImportResultResponse response = transactionImportService.importCsv(
+                                userId,
+                                body);
+
+                ApiResponse<ImportResultResponse> apiResponse = ApiResponse
+                                .<ImportResultResponse>builder()
+                                .success(true)
+                                .message(
+                                                "Imported " + response.getImportedRows() +
+                                                                " of " + response.getTotalRows() +
+                                                                " rows.")
+                                .data(response)
+                                .build();
+
+                return ResponseEntity.ok(
+                                apiResponse);
+        }
+
+        /**
+         * Streams the full (optionally filtered) history as NDJSON
+         * or as a JSON array, row by row from a database cursor.
+         *
+         * Example:
+         *
+         * GET /api/transactions/stream
+         *
+         * GET /api/transactions/stream?category=Food&format=json
+         *
+         * GET /api/transactions/stream?startDate=2026-01-01&endDate=2026-12-31
+         */
+        @GetMapping("/stream")
+        public ResponseEntity<StreamingResponseBody> streamTransactions(
+
+                        JwtClaims claims,
+
+                        @RequestParam(required = false) String category,
+
+                        @RequestParam(required = false) TransactionType type,
+
+                        @RequestParam(required = false) LocalDate startDate,
+
+                        @RequestParam(required = false) LocalDate endDate,
+
+                        @RequestParam(defaultValue = "ndjson") String format
+
+        ) {
+
+                UUID userId = claims.getUserId();
+
+                ExportFormat streamFormat = ExportFormat.from(
+                                format,
+                                STREAM_FORMATS);
+
+                boolean ndjson = streamFormat == ExportFormat.NDJSON;
+
+                boolean hasCategory = category != null &&
+                                !category.isBlank();
+
+                boolean hasDates = startDate != null ||
+                                endDate != null;
+
+                int filters = (hasCategory ? 1 : 0) +
+                                (type != null ? 1 : 0) +
+                                (hasDates ? 1 : 0);
+
+                if (filters > 1) {
+                        throw new BadRequestException(
+                                        "Filter by category, type or date range, not several at once.");
+                }
+
+                if (hasDates &&
+                                (startDate == null ||
+                                                endDate == null)) {
+                        throw new BadRequestException(
+                                        "Start date and end date are required.");
+                }
+
+                if (hasDates &&
+                                startDate.isAfter(endDate)) {
+                        throw new BadRequestException(
+                                        "Start date cannot be after end date.");
+                }
+
+                StreamingResponseBody body = outputStream -> {
+
+                        try (JsonRowWriter writer = new JsonRowWriter(
+                                        objectMapper,
+                                        outputStream,
+                                        ndjson)) {
+
+                                Consumer<TransactionDTO> sink = transaction -> {
+                                        try {
+                                                writer.write(
+                                                                transaction);
+                                        } catch (IOException exception) {
+                                                throw new UncheckedIOException(
+                                                                exception);
+                                        }
+                                };
+
+                                if (hasCategory) {
+                                        transactionService.streamTransactionsByCategory(
+                                                        userId,
+                                                        category,
+                                                        sink);
+                                } else if (type != null) {
+                                        transactionService.streamTransactionsByType(
+                                                        userId,
+                                                        type,
+                                                        sink);
+                                } else if (hasDates) {
+                                        transactionService.streamTransactionsBetweenDates(
+                                                        userId,
+                                                        startDate,
+                                                        endDate,
+                                                        sink);
+                                } else {
+                                        transactionService.streamAllTransactions(
+                                                        userId,
+                                                        sink);
+                                }
+                        }
+                };
+
+                return ResponseEntity
+                                .ok()
+                                .contentType(
+                                                streamFormat.getMediaType())
+                                .body(body);
+        }
+
         @GetMapping("/{id}")
         public ResponseEntity<ApiResponse<TransactionResponse>> getTransactionById(
 
-                        @RequestHeader("Authorization") String authorizationHeader,
+                        JwtClaims claims,
 
                         @PathVariable Long id
 
         ) {
 
-                UUID userId = extractUserId(
-                                authorizationHeader);
+                UUID userId = claims.getUserId();
 
                 TransactionResponse response = transactionService.getTransactionById(
                                 userId,
@@ -103,13 +319,33 @@ public class TransactionController {
                                 apiResponse);
         }
 
+        /**
+         * Offset mode of GET /api/transactions.
+         *
+         * Returns a PageResponse. The total is counted unless
+         * includeTotal=false, which skips the count query.
+         *
+         * fields limits each item to the listed properties
+         * (id, amount, category, type, date, notes) and the query
+         * to their columns.
+         *
+         * Example:
+         *
+         * GET /api/transactions?page=0&size=20
+         *
+         * GET /api/transactions?page=3&size=20&includeTotal=false
+         *
+         * GET /api/transactions?size=50&fields=date,amount,category
+         */
         @GetMapping
-        public ResponseEntity<ApiResponse<Page<TransactionDTO>>> getTransactions(
+        public ResponseEntity<ApiResponse<PageResponse<TransactionDTO>>> getTransactions(
 
-                        @RequestHeader("Authorization") String authorizationHeader,
+                        JwtClaims claims,
 
                         @RequestParam(required = false) String search,
 
+                        @RequestParam(defaultValue = "CONTAINS") SearchMode searchMode,
+
                         @RequestParam(required = false) TransactionType type,
 
                         @RequestParam(required = false) String category,
@@ -124,65 +360,167 @@ public class TransactionController {
 
                         @RequestParam(defaultValue = "0") int page,
 
-                        @RequestParam(defaultValue = "20") int size
+                        @RequestParam(defaultValue = "20") int size,
+
+                        @RequestParam(defaultValue = "true") boolean includeTotal,
+
+                        @RequestParam(required = false) String fields
 
         ) {
 
-                UUID userId = extractUserId(
-                                authorizationHeader);
+                UUID userId = claims.getUserId();
 
                 validatePagination(
                                 page,
                                 size);
 
-                String normalizedDateSort = normalizeDateSort(
-                                dateSort);
+                Set<TransactionField> selectedFields = TransactionField.parse(
+                                fields);
 
-                String normalizedAmountSort = normalizeAmountSort(
+                Sort sort = buildSort(
+                                dateSort,
                                 amountSort);
 
-                Sort.Direction dateDirection = "asc".equals(normalizedDateSort)
-                                ? Sort.Direction.ASC
-                                : Sort.Direction.DESC;
+                Pageable pageable = PageRequest.of(
+                                page,
+                                size,
+                                sort);
 
-                Sort sort = Sort.by(
-                                new Sort.Order(
-                                                dateDirection,
-                                                "date"));
+                Slice<TransactionDTO> slice = transactionService.getTransactions(
+                                userId,
+                                search,
+                                searchMode,
+                                type,
+                                category,
+                                fromDate,
+                                toDate,
+                                pageable,
+                                includeTotal,
+                                selectedFields);
+
+                PageResponse<TransactionDTO> response = PageResponse
+                                .<TransactionDTO>builder()
+                                .items(slice.getContent())
+                                .page(page)
+                                .size(size)
+                                .hasNext(slice.hasNext())
+                                .nextPage(slice.hasNext()
+                                                ? page + 1
+                                                : null)
+                                .total(slice instanceof Page<TransactionDTO> counted
+                                                ? counted.getTotalElements()
+                                                : null)
+                                .build();
 
-                if (normalizedAmountSort != null) {
+                ApiResponse<PageResponse<TransactionDTO>> apiResponse = ApiResponse
+                                .<PageResponse<TransactionDTO>>builder()
+                                .success(true)
+                                .message(
+                                                "Transactions fetched successfully.")
+                                .data(response)
+                                .build();
 
-                        Sort.Direction amountDirection = "asc".equals(normalizedAmountSort)
-                                        ? Sort.Direction.ASC
-                                        : Sort.Direction.DESC;
+                return ResponseEntity.ok(
+                                apiResponse);
+        }
 
-                        sort = sort.and(
-                                        Sort.by(
-                                                        new Sort.Order(
-                                                                        amountDirection,
-                                                                        "amount")));
-                }
+        /**
+         * Cursor (keyset) mode of GET /api/transactions.
+         *
+         * Selected when a cursor parameter is present; pass an
+         * empty cursor for the first page and nextCursor after that.
+         * fields works as in offset mode.
+         *
+         * Example:
+         *
+         * GET /api/transactions?cursor=&size=20
+         *
+         * GET /api/transactions?cursor=djF8ZGF0ZTpkZXNj...&size=20
+         */
+        @GetMapping(params = "cursor")
+        public ResponseEntity<ApiResponse<PageResponse<TransactionDTO>>> getTransactionsByCursor(
+
+                        JwtClaims claims,
 
-                sort = sort.and(
-                                Sort.by(
-                                                Sort.Order.desc("id")));
+                        @RequestParam(required = false) String search,
 
-                Pageable pageable = PageRequest.of(
-                                page,
-                                size,
-                                sort);
+                        @RequestParam(defaultValue = "CONTAINS") SearchMode searchMode,
+
+                        @RequestParam(required = false) TransactionType type,
+
+                        @RequestParam(required = false) String category,
+
+                        @RequestParam(required = false) LocalDate fromDate,
+
+                        @RequestParam(required = false) LocalDate toDate,
+
+                        @RequestParam(defaultValue = "desc") String dateSort,
+
+                        @RequestParam(required = false) String amountSort,
+
+                        @RequestParam String cursor,
+
+                        @RequestParam(defaultValue = "20") int size,
+
+                        @RequestParam(required = false) String fields
+
+        ) {
+
+                UUID userId = claims.getUserId();
+
+                validatePagination(
+                                0,
+                                size);
+
+                Set<TransactionField> selectedFields = TransactionField.parse(
+                                fields);
+
+                Sort sort = buildSort(
+                                dateSort,
+                                amountSort);
+
+                TransactionCursor after = cursor.isBlank()
+                                ? null
+                                : TransactionCursor.decode(
+                                                cursor.strip(),
+                                                sort);
 
-                Page<TransactionDTO> response = transactionService.getTransactions(
+                Slice<TransactionDTO> slice = transactionService.getTransactionsAfter(
                                 userId,
                                 search,
+                                searchMode,
                                 type,
                                 category,
                                 fromDate,
                                 toDate,
-                                pageable);
+                                after,
+                                sort,
+                                size,
+                                selectedFields);
+
+                String nextCursor = slice.hasNext()
+                                ? TransactionCursor
+                                                .after(
+                                                                slice.getContent().get(
+                                                                                slice.getNumberOfElements() - 1),
+                                                                sort)
+                                                .encode()
+                                : null;
+
+                TransactionField.retainOnly(
+                                slice.getContent(),
+                                selectedFields);
+
+                PageResponse<TransactionDTO> response = PageResponse
+                                .<TransactionDTO>builder()
+                                .items(slice.getContent())
+                                .size(size)
+                                .hasNext(slice.hasNext())
+                                .nextCursor(nextCursor)
+                                .build();
 
-                ApiResponse<Page<TransactionDTO>> apiResponse = ApiResponse
-                                .<Page<TransactionDTO>>builder()
+                ApiResponse<PageResponse<TransactionDTO>> apiResponse = ApiResponse
+                                .<PageResponse<TransactionDTO>>builder()
                                 .success(true)
                                 .message(
                                                 "Transactions fetched successfully.")
@@ -196,7 +534,7 @@ public class TransactionController {
         @PutMapping("/{id}")
         public ResponseEntity<ApiResponse<TransactionResponse>> updateTransaction(
 
-                        @RequestHeader("Authorization") String authorizationHeader,
+                        JwtClaims claims,
 
                         @PathVariable Long id,
 
@@ -204,8 +542,7 @@ public class TransactionController {
 
         ) {
 
-                UUID userId = extractUserId(
-                                authorizationHeader);
+                UUID userId = claims.getUserId();
 
                 TransactionResponse response = transactionService.updateTransaction(
                                 id,
@@ -227,14 +564,13 @@ public class TransactionController {
         @DeleteMapping("/{id}")
         public ResponseEntity<ApiResponse<Void>> deleteTransaction(
 
-                        @RequestHeader("Authorization") String authorizationHeader,
+                        JwtClaims claims,
 
                         @PathVariable Long id
 
         ) {
 
-                UUID userId = extractUserId(
-                                authorizationHeader);
+                UUID userId = claims.getUserId();
 
                 transactionService.deleteTransaction(
                                 id,
@@ -252,6 +588,45 @@ public class TransactionController {
                                 apiResponse);
         }
 
+        private Sort buildSort(
+                        String dateSort,
+                        String amountSort) {
+
+                String normalizedDateSort = normalizeDateSort(
+                                dateSort);
+
+                String normalizedAmountSort = normalizeAmountSort(
+                                amountSort);
+
+                Sort.Direction dateDirection = "asc".equals(normalizedDateSort)
+                                ? Sort.Direction.ASC
+                                : Sort.Direction.DESC;
+
+                Sort sort = Sort.by(
+                                new Sort.Order(
+                                                dateDirection,
+                                                "date"));
+
+                if (normalizedAmountSort != null) {
+
+                        Sort.Direction amountDirection = "asc".equals(normalizedAmountSort)
+                                        ? Sort.Direction.ASC
+                                        : Sort.Direction.DESC;
+
+                        sort = sort.and(
+                                        Sort.by(
+                                                        new Sort.Order(
+                                                                        amountDirection,
+                                                                        "amount")));
+                }
+
+                sort = sort.and(
+                                Sort.by(
+                                                Sort.Order.desc("id")));
+
+                return sort;
+        }
+
         private void validatePagination(
                         int page,
                         int size) {
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.expenso.expense_tracker.dto.common.ApiResponse;
 import com.expenso.expense_tracker.dto.user.UserResponse;
+import com.expenso.expense_tracker.security.JwtClaims;
 import com.expenso.expense_tracker.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -78,23 +79,18 @@ public class UserController {
      *
      * This endpoint is useful after login.
      *
-     * It will later use:
-     *
-     * @AuthenticationPrincipal UserPrincipal
-     *
      * ============================================================
      */
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(
 
-            @RequestHeader("Authorization")
-            String token
+            JwtClaims claims
 
     ) {
 
         UserResponse response =
 
-                userService.getCurrentUser(token);
+                userService.getCurrentUser(claims.getUserId());
 
         ApiResponse<UserResponse> apiResponse =
 
@@ -0,0 +1,241 @@
+package com.expenso.expense_tracker.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ============================================================
+ * CSV Reader
+ * ============================================================
+ *
+ * Minimal RFC 4180 reader that pulls one record at a time from
+ * a Reader, so input of any size is parsed in constant memory.
+ *
+ * • Comma separated, double-quote escaped ("" inside quotes)
+ * • Quoted fields may contain commas and line breaks
+ * • LF and CRLF line endings
+ *
+ * The caller owns (and closes) the underlying Reader.
+ *
+ * ============================================================
+ */
+public class CsvReader {
+
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final Reader reader;
+
+    private long line = 1;
+
+    private long recordLine;
+
+    private int pending = -2;
+
+    public CsvReader(Reader reader) {
+
+        this.reader = reader;
+
+    }
+
+    /**
+     * Line on which the last returned record started.
+     */
+    public long getRecordLine() {
+
+        return recordLine;
+
+    }
+
+    /**
+     * Next record, or null at end of input.
+     *
+     * Blank lines are skipped.
+     */
+    public List<String> next() throws IOException {
+
+        while (true) {
+
+            int c = read();
+
+            if (c == -1) {
+
+                return null;
+
+            }
+
+            if (c == '\r' || c == '\n') {
+
+                consumeLineBreak(c);
+
+                continue;
+
+            }
+
+            unread(c);
+
+            recordLine = line;
+
+            return readRecord();
+
+        }
+
+    }
+
+    private List<String> readRecord() throws IOException {
+
+        List<String> fields = new ArrayList<>();
+
+        StringBuilder field = new StringBuilder();
+
+        boolean quoted = false;
+
+        boolean afterQuote = false;
+
+        while (true) {
+
+            int c = read();
+
+            if (quoted) {
+
+                if (c == -1) {
+
+                    throw new IOException(
+                            "Unterminated quoted field starting on line " + recordLine + "."
+                    );
+
+                }
+
+                if (c == '"') {
+
+                    int next = read();
+
+                    if (next == '"') {
+
+                        append(field, '"');
+
+                    } else {
+
+                        unread(next);
+
+                        quoted = false;
+
+                        afterQuote = true;
+
+                    }
+
+                } else {
+
+                    if (c == '\n') {
+
+                        line++;
+
+                    }
+
+                    append(field, (char) c);
+
+                }
+
+                continue;
+
+            }
+
+            if (c == -1 || c == '\r' || c == '\n') {
+
+                fields.add(field.toString());
+
+                if (c != -1) {
+
+                    consumeLineBreak(c);
+
+                }
+
+                return fields;
+
+            }
+
+            if (c == ',') {
+
+                fields.add(field.toString());
+
+                field.setLength(0);
+
+                afterQuote = false;
+
+                continue;
+
+            }
+
+            if (c == '"' && field.isEmpty() && !afterQuote) {
+
+                quoted = true;
+
+                continue;
+
+            }
+
+            append(field, (char) c);
+
+        }
+
+    }
+
+    private void consumeLineBreak(int c) throws IOException {
+
+        if (c == '\r') {
+
+            int next = read();
+
+            if (next != '\n') {
+
+                unread(next);
+
+            }
+
+        }
+
+        line++;
+
+    }
+
+    private void append(
+            StringBuilder field,
+            char c
+    ) throws IOException {
+
+        if (field.length() >= MAX_FIELD_LENGTH) {
+
+            throw new IOException(
+                    "Field on line " + recordLine + " exceeds " + MAX_FIELD_LENGTH + " characters."
+            );
+
+        }
+
+        field.append(c);
+
+    }
+
+    private int read() throws IOException {
+
+        if (pending != -2) {
+
+            int c = pending;
+
+            pending = -2;
+
+            return c;
+
+        }
+
+        return reader.read();
+
+    }
+
+    private void unread(int c) {
+
+        pending = c;
+
+    }
+
+}
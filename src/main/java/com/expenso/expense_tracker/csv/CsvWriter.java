@@ -0,0 +1,114 @@
+package com.expenso.expense_tracker.csv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ============================================================
+ * CSV Writer
+ * ============================================================
+ *
+ * Writes RFC 4180 records one at a time. Fields containing a
+ * comma, quote or line break are quoted; records end in CRLF.
+ *
+ * The first record is flushed immediately, then the output is
+ * flushed every FLUSH_INTERVAL records.
+ *
+ * Closing the writer does not close the target stream.
+ *
+ * ============================================================
+ */
+public class CsvWriter implements AutoCloseable {
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final Writer writer;
+
+    private long records;
+
+    public CsvWriter(OutputStream outputStream) {
+
+        this.writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+
+    }
+
+    /**
+     * Write one record. Null fields are written as empty.
+     */
+    public void write(String... fields) throws IOException {
+
+        for (int index = 0; index < fields.length; index++) {
+
+            if (index > 0) {
+
+                writer.write(',');
+
+            }
+
+            writeField(fields[index]);
+
+        }
+
+        writer.write("\r\n");
+
+        records++;
+
+        if (records == 1 || records % FLUSH_INTERVAL == 0) {
+
+            writer.flush();
+
+        }
+
+    }
+
+    public long getRecords() {
+
+        return records;
+
+    }
+
+    private void writeField(String field) throws IOException {
+
+        if (field == null || field.isEmpty()) {
+
+            return;
+
+        }
+
+        boolean quote = false;
+
+        for (int index = 0; index < field.length() && !quote; index++) {
+
+            char c = field.charAt(index);
+
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+
+        }
+
+        if (!quote) {
+
+            writer.write(field);
+
+            return;
+
+        }
+
+        writer.write('"');
+
+        writer.write(field.replace("\"", "\"\""));
+
+        writer.write('"');
+
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        writer.flush();
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.expenso.expense_tracker.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * In-process cache statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    /**
+     * Cache Name
+     */
+    private String name;
+
+    /**
+     * Approximate number of entries.
+     */
+    private long size;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private double hitRate;
+
+    private long loadCount;
+
+    private long loadFailureCount;
+
+    /**
+     * Average time spent computing a missing entry.
+     */
+    private double averageLoadMillis;
+
+    private long evictionCount;
+
+}
@@ -0,0 +1,41 @@
+package com.expenso.expense_tracker.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latency statistics of one operation run on a worker pool.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperationStatsResponse {
+
+    /**
+     * Operation Name
+     */
+    private String name;
+
+    private long count;
+
+    /**
+     * Calls turned away because the pool was saturated.
+     */
+    private long rejectedCount;
+
+    /**
+     * Average time spent waiting for a worker.
+     */
+    private double averageQueueMillis;
+
+    /**
+     * Average time spent running on a worker.
+     */
+    private double averageRunMillis;
+
+    private double maxRunMillis;
+
+}
@@ -0,0 +1,53 @@
+package com.expenso.expense_tracker.dto.admin;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the admin-controlled flight recording.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingStatusResponse {
+
+    /**
+     * NONE, RUNNING or STOPPED
+     */
+    private String state;
+
+    /**
+     * JFR settings the recording was started with
+     * (default or profile).
+     */
+    private String settings;
+
+    private Instant startTime;
+
+    private Instant stopTime;
+
+    /**
+     * Fixed duration after which the recording stops itself;
+     * null when it runs until stopped.
+     */
+    private Long durationSeconds;
+
+    /**
+     * Older data is discarded once the recording holds more
+     * than this much, or is older than maxAgeSeconds.
+     */
+    private long maxSizeBytes;
+
+    private long maxAgeSeconds;
+
+    /**
+     * Bytes written to disk so far.
+     */
+    private long sizeBytes;
+
+}
@@ -0,0 +1,89 @@
+package com.expenso.expense_tracker.dto.common;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.expenso.expense_tracker.exception.BadRequestException;
+
+/**
+ * Fields Parameter
+ *
+ * Parses the comma-separated fields query parameter (sparse
+ * fieldsets) into a set of the endpoint's field enum, matching
+ * each name against the enum's JSON property names.
+ */
+public final class FieldsParameter {
+
+    private FieldsParameter() {
+    }
+
+    /**
+     * Null or blank selects every field; an unknown name is a
+     * BadRequestException listing the allowed ones.
+     */
+    public static <F extends Enum<F>> Set<F> parse(
+            String fields,
+            Class<F> type,
+            Function<F, String> property
+    ) {
+
+        if (fields == null || fields.isBlank()) {
+
+            return EnumSet.allOf(type);
+
+        }
+
+        Set<F> selected = EnumSet.noneOf(type);
+
+        for (String name : fields.split(",")) {
+
+            if (!name.isBlank()) {
+
+                selected.add(find(name.strip(), type, property));
+
+            }
+
+        }
+
+        if (selected.isEmpty()) {
+
+            throw new BadRequestException("fields must name at least one field.");
+
+        }
+
+        return selected;
+
+    }
+
+    private static <F extends Enum<F>> F find(
+            String name,
+            Class<F> type,
+            Function<F, String> property
+    ) {
+
+        F[] values = type.getEnumConstants();
+
+        for (F field : values) {
+
+            if (property.apply(field).equals(name)) {
+
+                return field;
+
+            }
+
+        }
+
+        throw new BadRequestException(
+                "Unknown field: " + name + ". Allowed fields: "
+                        + Arrays.stream(values)
+                                .map(property)
+                                .collect(Collectors.joining(", "))
+                        + "."
+        );
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.expenso.expense_tracker.dto.common;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Page Response
+ *
+ * One page of a list, in offset or cursor (keyset) mode.
+ * Replaces serializing Spring Data's Page, whose JSON form
+ * (pageable, sort, ...) is verbose and not a stable contract.
+ *
+ * Written by PageResponseSerializer; absent fields are omitted.
+ *
+ * Offset mode:
+ *
+ * {
+ *   "items": [ ... ],
+ *   "page": 0,
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextPage": 1,
+ *   "total": 137
+ * }
+ *
+ * Cursor mode:
+ *
+ * {
+ *   "items": [ ... ],
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextCursor": "djF8ZGF0ZTpkZXNj..."
+ * }
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonSerialize(using = PageResponseSerializer.class)
+public class PageResponse<T> {
+
+    @Builder.Default
+    private List<T> items = List.of();
+
+    /**
+     * Zero-based page number. Offset mode only.
+     */
+    private Integer page;
+
+    /**
+     * Requested page size.
+     */
+    private int size;
+
+    private boolean hasNext;
+
+    /**
+     * Pass back as ?page= to fetch the next page.
+     * Offset mode only; absent on the last page.
+     */
+    private Integer nextPage;
+
+    /**
+     * Pass back as ?cursor= to fetch the next page.
+     * Cursor mode only; absent on the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Total matching items. Absent when the count
+     * was not requested.
+     */
+    private Long total;
+
+}
@@ -0,0 +1,120 @@
+package com.expenso.expense_tracker.dto.common;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Page Response Serializer
+ *
+ * Writes PageResponse field by field instead of through bean
+ * introspection, and resolves the item serializer once per
+ * page rather than once per item.
+ */
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PageResponseSerializer() {
+
+        super((Class) PageResponse.class);
+
+    }
+
+    @Override
+    public void serialize(
+            PageResponse<?> page,
+            JsonGenerator generator,
+            SerializerProvider provider
+    ) throws IOException {
+
+        generator.writeStartObject(page);
+
+        generator.writeFieldName("items");
+
+        writeItems(page.getItems(), generator, provider);
+
+        if (page.getPage() != null) {
+
+            generator.writeNumberField("page", page.getPage());
+
+        }
+
+        generator.writeNumberField("size", page.getSize());
+
+        generator.writeBooleanField("hasNext", page.isHasNext());
+
+        if (page.getNextPage() != null) {
+
+            generator.writeNumberField("nextPage", page.getNextPage());
+
+        }
+
+        if (page.getNextCursor() != null) {
+
+            generator.writeStringField("nextCursor", page.getNextCursor());
+
+        }
+
+        if (page.getTotal() != null) {
+
+            generator.writeNumberField("total", page.getTotal());
+
+        }
+
+        generator.writeEndObject();
+
+    }
+
+    private void writeItems(
+            List<?> items,
+            JsonGenerator generator,
+            SerializerProvider provider
+    ) throws IOException {
+
+        if (items == null) {
+
+            generator.writeStartArray(null, 0);
+
+            generator.writeEndArray();
+
+            return;
+
+        }
+
+        generator.writeStartArray(items, items.size());
+
+        Class<?> itemType = null;
+
+        JsonSerializer<Object> itemSerializer = null;
+
+        for (Object item : items) {
+
+            if (item == null) {
+
+                provider.defaultSerializeNull(generator);
+
+                continue;
+
+            }
+
+            if (item.getClass() != itemType) {
+
+                itemType = item.getClass();
+
+                itemSerializer = provider.findValueSerializer(itemType);
+
+            }
+
+            itemSerializer.serialize(item, generator, provider);
+
+        }
+
+        generator.writeEndArray();
+
+    }
+
+}
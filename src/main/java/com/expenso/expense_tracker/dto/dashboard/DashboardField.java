@@ -0,0 +1,74 @@
+package com.expenso.expense_tracker.dto.dashboard;
+
+import java.util.Set;
+
+import com.expenso.expense_tracker.dto.common.FieldsParameter;
+
+import lombok.Getter;
+
+/**
+ * A DashboardResponse section that can be requested with the
+ * fields parameter (sparse fieldsets).
+ */
+@Getter
+public enum DashboardField {
+
+    MONTHLY_INCOME("monthlyIncome"),
+
+    MONTHLY_EXPENSE("monthlyExpense"),
+
+    MONTHLY_BALANCE("monthlyBalance"),
+
+    RECENT_TRANSACTIONS("recentTransactions"),
+
+    MONTHLY_OVERVIEW("monthlyOverview"),
+
+    EXPENSE_BREAKDOWN("expenseBreakdown");
+
+    private final String property;
+
+    DashboardField(String property) {
+
+        this.property = property;
+
+    }
+
+    /**
+     * Parses the fields parameter; null or blank selects every section.
+     */
+    public static Set<DashboardField> parse(String fields) {
+
+        return FieldsParameter.parse(fields, DashboardField.class, DashboardField::getProperty);
+
+    }
+
+    /**
+     * Copy holding only the selected sections; the rest are
+     * null and left out of the response.
+     *
+     * Never modifies the given response, which may be the
+     * cached one.
+     */
+    public static DashboardResponse select(
+            DashboardResponse dashboard,
+            Set<DashboardField> fields
+    ) {
+
+        if (fields.size() == values().length) {
+
+            return dashboard;
+
+        }
+
+        return DashboardResponse.builder()
+                .monthlyIncome(fields.contains(MONTHLY_INCOME) ? dashboard.getMonthlyIncome() : null)
+                .monthlyExpense(fields.contains(MONTHLY_EXPENSE) ? dashboard.getMonthlyExpense() : null)
+                .monthlyBalance(fields.contains(MONTHLY_BALANCE) ? dashboard.getMonthlyBalance() : null)
+                .recentTransactions(fields.contains(RECENT_TRANSACTIONS) ? dashboard.getRecentTransactions() : null)
+                .monthlyOverview(fields.contains(MONTHLY_OVERVIEW) ? dashboard.getMonthlyOverview() : null)
+                .expenseBreakdown(fields.contains(EXPENSE_BREAKDOWN) ? dashboard.getExpenseBreakdown() : null)
+                .build();
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.expenso.expense_tracker.dto.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ============================================================
+ * Report Summary DTO
+ * ============================================================
+ *
+ * Totals footer of a streamed report export.
+ *
+ * ============================================================
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSummaryDTO {
+
+    private String title;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private BigDecimal totalIncome;
+
+    private BigDecimal totalExpense;
+
+    private BigDecimal balance;
+
+    private long transactionCount;
+
+}
@@ -0,0 +1,40 @@
+package com.expenso.expense_tracker.dto.rollup;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One rollup bucket whose stored totals do not match
+ * the totals recomputed from transactions.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupDriftDTO {
+
+    /**
+     * Month
+     * Example: 2026-07
+     */
+    private String month;
+
+    private TransactionType type;
+
+    private String category;
+
+    private BigDecimal expectedAmount;
+
+    private BigDecimal actualAmount;
+
+    private long expectedCount;
+
+    private long actualCount;
+
+}
@@ -0,0 +1,39 @@
+package com.expenso.expense_tracker.dto.rollup;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of verifying one user's rollups
+ * against the transactions table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupVerificationResponse {
+
+    private UUID userId;
+
+    /**
+     * Number of buckets compared.
+     */
+    private int bucketsChecked;
+
+    /**
+     * Buckets that drifted.
+     */
+    @Builder.Default
+    private List<RollupDriftDTO> drifts = List.of();
+
+    /**
+     * Whether the rollups were rebuilt.
+     */
+    private boolean repaired;
+
+}
@@ -0,0 +1,24 @@
+package com.expenso.expense_tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Validation error for one item of a batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemErrorDTO {
+
+    /**
+     * Zero-based position of the item in the request.
+     */
+    private int index;
+
+    private String message;
+
+}
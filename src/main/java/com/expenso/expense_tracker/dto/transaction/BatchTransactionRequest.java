@@ -0,0 +1,29 @@
+package com.expenso.expense_tracker.dto.transaction;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating many transactions at once.
+ *
+ * Items are validated together; if any item is invalid
+ * nothing is created.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransactionRequest {
+
+    @NotEmpty(message = "At least one transaction is required.")
+    @Size(max = 5000, message = "A batch cannot exceed 5000 transactions.")
+    private List<TransactionRequest> transactions;
+
+}
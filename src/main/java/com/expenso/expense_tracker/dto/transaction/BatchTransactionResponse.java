@@ -0,0 +1,26 @@
+package com.expenso.expense_tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a batch create.
+ *
+ * Ids are returned in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransactionResponse {
+
+    private int createdCount;
+
+    @Builder.Default
+    private List<Long> ids = List.of();
+
+}
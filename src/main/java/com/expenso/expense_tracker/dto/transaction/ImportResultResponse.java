@@ -0,0 +1,38 @@
+package com.expenso.expense_tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a CSV import.
+ *
+ * Only the first errors are listed; failedRows is always
+ * the full count.
+ *
+ * stopReason is set when the file could not be read to the
+ * end; it is not counted as a failed row.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultResponse {
+
+    private long totalRows;
+
+    private long importedRows;
+
+    private long failedRows;
+
+    private boolean errorsTruncated;
+
+    @Builder.Default
+    private List<ImportRowErrorDTO> errors = List.of();
+
+    private String stopReason;
+
+}
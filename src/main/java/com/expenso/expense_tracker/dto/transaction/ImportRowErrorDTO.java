@@ -0,0 +1,24 @@
+package com.expenso.expense_tracker.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Error for one row of a CSV import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDTO {
+
+    /**
+     * Line in the uploaded file where the row starts.
+     */
+    private long line;
+
+    private String message;
+
+}
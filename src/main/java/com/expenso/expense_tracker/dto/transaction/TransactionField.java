@@ -0,0 +1,103 @@
+package com.expenso.expense_tracker.dto.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import com.expenso.expense_tracker.dto.common.FieldsParameter;
+import com.expenso.expense_tracker.enums.TransactionType;
+
+import lombok.Getter;
+
+/**
+ * A TransactionDTO property that can be requested with the
+ * fields parameter (sparse fieldsets).
+ *
+ * The property name is also the Transaction attribute it is
+ * read from, so a field set doubles as the select list of a
+ * projection query.
+ *
+ * Properties outside the set are left null and dropped by the
+ * NON_NULL inclusion of the application ObjectMapper.
+ */
+@Getter
+public enum TransactionField {
+
+    ID("id", (transaction, value) -> transaction.setId((Long) value)),
+
+    AMOUNT("amount", (transaction, value) -> transaction.setAmount((BigDecimal) value)),
+
+    CATEGORY("category", (transaction, value) -> transaction.setCategory((String) value)),
+
+    TYPE("type", (transaction, value) -> transaction.setType((TransactionType) value)),
+
+    DATE("date", (transaction, value) -> transaction.setDate((LocalDate) value)),
+
+    NOTES("notes", (transaction, value) -> transaction.setNotes((String) value));
+
+    private final String property;
+
+    private final BiConsumer<TransactionDTO, Object> setter;
+
+    TransactionField(String property, BiConsumer<TransactionDTO, Object> setter) {
+
+        this.property = property;
+
+        this.setter = setter;
+
+    }
+
+    public void set(TransactionDTO transaction, Object value) {
+
+        setter.accept(transaction, value);
+
+    }
+
+    /**
+     * Parses the fields parameter; null or blank selects every field.
+     */
+    public static Set<TransactionField> parse(String fields) {
+
+        return FieldsParameter.parse(fields, TransactionField.class, TransactionField::getProperty);
+
+    }
+
+    public static boolean isAll(Set<TransactionField> fields) {
+
+        return fields.size() == values().length;
+
+    }
+
+    /**
+     * Clears every property outside the field set, after the
+     * extra columns a query needed (sort keys, totals) were used.
+     */
+    public static void retainOnly(
+            Collection<TransactionDTO> transactions,
+            Set<TransactionField> fields
+    ) {
+
+        if (isAll(fields)) {
+
+            return;
+
+        }
+
+        Set<TransactionField> cleared = EnumSet.complementOf(EnumSet.copyOf(fields));
+
+        for (TransactionDTO transaction : transactions) {
+
+            for (TransactionField field : cleared) {
+
+                field.set(transaction, null);
+
+            }
+
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.expenso.expense_tracker.dto.transaction;
 
 import com.expenso.expense_tracker.enums.TransactionType;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -27,6 +28,7 @@ public class TransactionRequest {
 
     @NotNull(message = "Amount is required.")
     @Positive(message = "Amount must be greater than zero.")
+    @Digits(integer = 10, fraction = 2, message = "Amount must have at most 10 digits and 2 decimal places.")
     private BigDecimal amount;
 
     @NotBlank(message = "Category is required.")
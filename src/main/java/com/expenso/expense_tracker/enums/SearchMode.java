@@ -0,0 +1,23 @@
+package com.expenso.expense_tracker.enums;
+
+/**
+ * How the transaction search term is matched.
+ *
+ * <ul>
+ *   <li><b>CONTAINS</b>: Substring match on category and notes.</li>
+ *   <li><b>PREFIX</b>: Every word must prefix-match a word in category or notes.</li>
+ *   <li><b>RANKED</b>: Like PREFIX, ordered by relevance.</li>
+ * </ul>
+ *
+ * PREFIX and RANKED use PostgreSQL full-text search and fall back
+ * to CONTAINS on other databases.
+ */
+public enum SearchMode {
+
+    CONTAINS,
+
+    PREFIX,
+
+    RANKED
+
+}
@@ -0,0 +1,16 @@
+package com.expenso.expense_tracker.event;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Published after a user's transactions are created,
+ * updated or deleted.
+ */
+@Value
+public class TransactionsChangedEvent {
+
+    UUID userId;
+
+}
@@ -0,0 +1,20 @@
+package com.expenso.expense_tracker.event;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Published after a user's profile, status or token
+ * version changes.
+ */
+@Value
+public class UserAccountChangedEvent {
+
+    UUID userId;
+
+    boolean active;
+
+    int tokenVersion;
+
+}
@@ -0,0 +1,28 @@
+package com.expenso.expense_tracker.exception;
+
+import java.util.List;
+
+import com.expenso.expense_tracker.dto.transaction.BatchItemErrorDTO;
+
+import lombok.Getter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when one or more items of a batch are invalid.
+ *
+ * Carries one error per invalid item.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BatchValidationException extends RuntimeException {
+
+    private final List<BatchItemErrorDTO> errors;
+
+    public BatchValidationException(List<BatchItemErrorDTO> errors) {
+        super("Batch validation failed.");
+        this.errors = errors;
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.expenso.expense_tracker.exception;
 
 import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.expenso.expense_tracker.dto.transaction.BatchItemErrorDTO;
 
 import jakarta.validation.ConstraintViolationException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -89,6 +92,41 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    /**
+     * Service Busy
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailable(
+            ServiceUnavailableException exception) {
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(
+                        ApiResponse.builder()
+                                .success(false)
+                                .message(exception.getMessage())
+                                .data(null)
+                                .build()
+                );
+    }
+
+    /**
+     * Batch Item Errors
+     */
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<ApiResponse<List<BatchItemErrorDTO>>> handleBatchValidation(
+            BatchValidationException exception) {
+
+        return ResponseEntity.badRequest()
+                .body(
+                        ApiResponse.<List<BatchItemErrorDTO>>builder()
+                                .success(false)
+                                .message(exception.getMessage())
+                                .data(exception.getErrors())
+                                .build()
+                );
+    }
+
     /**
      * DTO Validation Errors
      */
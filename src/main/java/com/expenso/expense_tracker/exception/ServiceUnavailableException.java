@@ -0,0 +1,24 @@
+package com.expenso.expense_tracker.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a bounded resource is saturated and the
+ * request should be retried later.
+ *
+ * Examples:
+ * - Import Workers Busy
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException() {
+        super("Service is busy. Please try again later.");
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+}
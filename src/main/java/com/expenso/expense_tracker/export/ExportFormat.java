@@ -0,0 +1,109 @@
+package com.expenso.expense_tracker.export;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+
+import com.expenso.expense_tracker.exception.BadRequestException;
+
+/**
+ * Formats supported by the streaming exports.
+ */
+public enum ExportFormat {
+
+    CSV(new MediaType("text", "csv"), "csv"),
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+
+    JSON(MediaType.APPLICATION_JSON, "json");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    ExportFormat(
+            MediaType mediaType,
+            String extension
+    ) {
+
+        this.mediaType = mediaType;
+
+        this.extension = extension;
+
+    }
+
+    public MediaType getMediaType() {
+
+        return mediaType;
+
+    }
+
+    public String getExtension() {
+
+        return extension;
+
+    }
+
+    /**
+     * Parses a report export format (csv or ndjson).
+     */
+    public static ExportFormat from(String value) {
+
+        return from(value, EnumSet.of(CSV, NDJSON));
+
+    }
+
+    /**
+     * Parses a format query parameter, case-insensitively,
+     * accepting only the formats the endpoint supports.
+     */
+    public static ExportFormat from(
+            String value,
+            Set<ExportFormat> supported
+    ) {
+
+        if (value != null) {
+
+            for (ExportFormat format : supported) {
+
+                if (format.extension.equals(value.strip().toLowerCase(Locale.ROOT))) {
+
+                    return format;
+
+                }
+
+            }
+
+        }
+
+        throw new BadRequestException("Format must be " + describe(supported) + ".");
+
+    }
+
+    private static String describe(Set<ExportFormat> supported) {
+
+        StringBuilder description = new StringBuilder();
+
+        int index = 0;
+
+        for (ExportFormat format : supported) {
+
+            if (index > 0) {
+
+                description.append(index == supported.size() - 1 ? " or " : ", ");
+
+            }
+
+            description.append(format.extension);
+
+            index++;
+
+        }
+
+        return description.toString();
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.expenso.expense_tracker.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ============================================================
+ * JSON Row Writer
+ * ============================================================
+ *
+ * Writes rows one at a time as NDJSON (one object per line)
+ * or as a single JSON array, without buffering the rows.
+ *
+ * The first row is flushed immediately so clients see bytes
+ * before the query finishes; after that the output is flushed
+ * every FLUSH_INTERVAL rows.
+ *
+ * Closing the writer does not close the target stream.
+ *
+ * ============================================================
+ */
+public class JsonRowWriter implements AutoCloseable {
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectWriter writer;
+
+    private final JsonGenerator generator;
+
+    private final boolean ndjson;
+
+    private long rows;
+
+    public JsonRowWriter(
+            ObjectMapper objectMapper,
+            OutputStream outputStream,
+            boolean ndjson
+    ) throws IOException {
+
+        this.writer = objectMapper
+                .writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        this.generator = objectMapper
+                .getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        this.ndjson = ndjson;
+
+        if (ndjson) {
+
+            /*
+             * Rows are terminated by '\n' below instead of
+             * Jackson's default ' ' root separator.
+             */
+            generator.setRootValueSeparator(null);
+
+        } else {
+
+            generator.writeStartArray();
+
+        }
+
+    }
+
+    /**
+     * Write one row.
+     */
+    public void write(Object row) throws IOException {
+
+        writer.writeValue(generator, row);
+
+        if (ndjson) {
+
+            generator.writeRaw('\n');
+
+        }
+
+        rows++;
+
+        if (rows == 1 || rows % FLUSH_INTERVAL == 0) {
+
+            generator.flush();
+
+        }
+
+    }
+
+    public long getRows() {
+
+        return rows;
+
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (!ndjson) {
+
+            generator.writeEndArray();
+
+        }
+
+        generator.close();
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.expenso.expense_tracker.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import com.expenso.expense_tracker.csv.CsvWriter;
+import com.expenso.expense_tracker.dto.report.ReportSummaryDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ============================================================
+ * Report Export Writer
+ * ============================================================
+ *
+ * Writes report rows followed by a totals footer.
+ *
+ * • CSV: header, one record per transaction, a blank record,
+ *   then one label/value record per total
+ * • NDJSON: one transaction per line, then a final
+ *   {"summary": {...}} line
+ *
+ * CSV text cells that a spreadsheet would read as a formula
+ * are prefixed with a single quote.
+ *
+ * Closing the writer does not close the target stream.
+ *
+ * ============================================================
+ */
+public class ReportExportWriter implements AutoCloseable {
+
+    private static final String[] CSV_HEADER = {
+            "id",
+            "date",
+            "type",
+            "amount",
+            "category",
+            "notes"
+    };
+
+    private final CsvWriter csvWriter;
+
+    private final JsonRowWriter jsonWriter;
+
+    public ReportExportWriter(
+            ExportFormat format,
+            ObjectMapper objectMapper,
+            OutputStream outputStream
+    ) throws IOException {
+
+        if (format == ExportFormat.CSV) {
+
+            this.csvWriter = new CsvWriter(outputStream);
+
+            this.jsonWriter = null;
+
+            csvWriter.write(CSV_HEADER);
+
+        } else {
+
+            this.csvWriter = null;
+
+            this.jsonWriter = new JsonRowWriter(objectMapper, outputStream, true);
+
+        }
+
+    }
+
+    /**
+     * Write one transaction row.
+     */
+    public void write(TransactionDTO transaction) throws IOException {
+
+        if (jsonWriter != null) {
+
+            jsonWriter.write(transaction);
+
+            return;
+
+        }
+
+        csvWriter.write(
+                String.valueOf(transaction.getId()),
+                String.valueOf(transaction.getDate()),
+                String.valueOf(transaction.getType()),
+                transaction.getAmount().toPlainString(),
+                escapeFormula(transaction.getCategory()),
+                escapeFormula(transaction.getNotes())
+        );
+
+    }
+
+    /**
+     * Write the totals footer. Call once, after the last row.
+     */
+    public void writeSummary(ReportSummaryDTO summary) throws IOException {
+
+        if (jsonWriter != null) {
+
+            jsonWriter.write(Map.of("summary", summary));
+
+            return;
+
+        }
+
+        csvWriter.write();
+
+        csvWriter.write("Title", escapeFormula(summary.getTitle()));
+
+        csvWriter.write("Start Date", String.valueOf(summary.getStartDate()));
+
+        csvWriter.write("End Date", String.valueOf(summary.getEndDate()));
+
+        csvWriter.write("Total Income", summary.getTotalIncome().toPlainString());
+
+        csvWriter.write("Total Expense", summary.getTotalExpense().toPlainString());
+
+        csvWriter.write("Balance", summary.getBalance().toPlainString());
+
+        csvWriter.write("Transactions", String.valueOf(summary.getTransactionCount()));
+
+    }
+
+    private String escapeFormula(String value) {
+
+        if (value == null || value.isEmpty()) {
+
+            return value;
+
+        }
+
+        char first = value.charAt(0);
+
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+
+            return "'" + value;
+
+        }
+
+        return value;
+
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (jsonWriter != null) {
+
+            jsonWriter.close();
+
+        } else {
+
+            csvWriter.close();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.expenso.expense_tracker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import lombok.Setter;
+
+/**
+ * One DashboardService.getDashboard call (dashboard cache misses).
+ */
+@Name("expenso.Dashboard")
+@Label("Dashboard")
+@Description("Dashboard built from the monthly rollups")
+@Setter
+public class DashboardEvent extends ServiceEvent {
+
+    @Label("Month")
+    private String month;
+
+    @Label("Rollup Rows")
+    @Description("Aggregated rollup rows read for totals, overview and breakdown")
+    private int rollupRows;
+
+    @Label("Recent Transactions")
+    private int recentTransactions;
+
+    @Label("User Lookup")
+    @Timespan
+    private long userLookupTime;
+
+    @Label("Month Totals")
+    @Timespan
+    private long monthTotalsTime;
+
+    @Label("Recent Transactions Time")
+    @Description("Query and mapping of the latest transactions")
+    @Timespan
+    private long recentTransactionsTime;
+
+    @Label("Monthly Overview")
+    @Timespan
+    private long monthlyOverviewTime;
+
+    @Label("Expense Breakdown")
+    @Timespan
+    private long expenseBreakdownTime;
+
+}
@@ -0,0 +1,275 @@
+package com.expenso.expense_tracker.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.annotation.PreDestroy;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.expenso.expense_tracker.dto.admin.RecordingStatusResponse;
+import com.expenso.expense_tracker.exception.BadRequestException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ============================================================
+ * Flight Recording Service
+ * ============================================================
+ *
+ * Controls one in-process Java Flight Recorder recording, so
+ * a production incident can be profiled without a redeploy or
+ * shell access to the host.
+ *
+ * • Start with the JDK's "default" (low overhead, safe to
+ *   leave running) or "profile" (more detail) settings
+ * • Stop, or let a fixed duration stop it
+ * • Dump what has been recorded so far, while running or
+ *   after stopping
+ *
+ * The recording is kept on disk and bounded by max-age and
+ * max-size, so it can run continuously as a ring buffer
+ * (app.jfr.record-on-startup) and be dumped after the fact.
+ *
+ * ============================================================
+ */
+@Slf4j
+@Service
+public class FlightRecordingService {
+
+    private static final String RECORDING_NAME = "expenso";
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            DashboardEvent.class,
+            ReportEvent.class,
+            TransactionPageEvent.class,
+            LoginEvent.class
+    );
+
+    private final Duration maxAge;
+
+    private final DataSize maxSize;
+
+    private final boolean recordOnStartup;
+
+    private Recording recording;
+
+    private String settings;
+
+    public FlightRecordingService(
+            @Value("${app.jfr.max-age:30m}") Duration maxAge,
+            @Value("${app.jfr.max-size:250MB}") DataSize maxSize,
+            @Value("${app.jfr.record-on-startup:false}") boolean recordOnStartup,
+            @Value("${app.jfr.user-id-key:}") String userIdKey
+    ) {
+
+        UserIdHasher.setKey(userIdKey);
+
+        this.maxAge = maxAge;
+
+        this.maxSize = maxSize;
+
+        this.recordOnStartup = recordOnStartup;
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnStartup() {
+
+        if (recordOnStartup) {
+
+            start("default", null);
+
+            log.info("Flight recording started (max age {}, max size {})", maxAge, maxSize);
+
+        }
+
+    }
+
+    /**
+     * ============================================================
+     * Start Recording
+     * ============================================================
+     *
+     * Replaces a stopped recording; fails if one is running.
+     */
+    public synchronized RecordingStatusResponse start(
+            String settings,
+            Duration duration
+    ) {
+
+        if (isRunning()) {
+
+            throw new BadRequestException("A flight recording is already running.");
+
+        }
+
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+
+            throw new BadRequestException("Duration must be positive.");
+
+        }
+
+        Configuration configuration;
+
+        try {
+
+            configuration = Configuration.getConfiguration(settings);
+
+        } catch (IOException | ParseException exception) {
+
+            throw new BadRequestException("Unknown recording settings. Use default or profile.");
+
+        }
+
+        close();
+
+        Recording newRecording = new Recording(configuration);
+
+        newRecording.setName(RECORDING_NAME);
+
+        newRecording.setToDisk(true);
+
+        newRecording.setMaxAge(maxAge);
+
+        newRecording.setMaxSize(maxSize.toBytes());
+
+        newRecording.setDuration(duration);
+
+        for (Class<? extends Event> eventType : APPLICATION_EVENTS) {
+
+            newRecording.enable(eventType);
+
+        }
+
+        newRecording.start();
+
+        this.recording = newRecording;
+
+        this.settings = settings;
+
+        return status();
+
+    }
+
+    /**
+     * ============================================================
+     * Stop Recording
+     * ============================================================
+     *
+     * The data stays available to dump() until the next start.
+     */
+    public synchronized RecordingStatusResponse stop() {
+
+        if (!isRunning()) {
+
+            throw new BadRequestException("No flight recording is running.");
+
+        }
+
+        recording.stop();
+
+        return status();
+
+    }
+
+    /**
+     * ============================================================
+     * Dump Recording
+     * ============================================================
+     *
+     * Copies the recorded data to a new temporary .jfr file.
+     * The caller owns the file and must delete it.
+     */
+    public synchronized Path dump() throws IOException {
+
+        if (recording == null) {
+
+            throw new BadRequestException("No flight recording to dump. Start one first.");
+
+        }
+
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+
+        try {
+
+            recording.dump(file);
+
+        } catch (IOException | RuntimeException exception) {
+
+            Files.deleteIfExists(file);
+
+            throw exception;
+
+        }
+
+        return file;
+
+    }
+
+    /**
+     * ============================================================
+     * Recording Status
+     * ============================================================
+     */
+    public synchronized RecordingStatusResponse status() {
+
+        if (recording == null) {
+
+            return RecordingStatusResponse.builder()
+                    .state("NONE")
+                    .maxSizeBytes(maxSize.toBytes())
+                    .maxAgeSeconds(maxAge.toSeconds())
+                    .build();
+
+        }
+
+        Duration duration = recording.getDuration();
+
+        return RecordingStatusResponse.builder()
+                .state(recording.getState().name())
+                .settings(settings)
+                .startTime(recording.getStartTime())
+                .stopTime(isRunning() ? null : recording.getStopTime())
+                .durationSeconds(duration == null ? null : duration.toSeconds())
+                .maxSizeBytes(recording.getMaxSize())
+                .maxAgeSeconds(recording.getMaxAge().toSeconds())
+                .sizeBytes(recording.getSize())
+                .build();
+
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+
+        if (recording != null) {
+
+            recording.close();
+
+            recording = null;
+
+        }
+
+    }
+
+    private boolean isRunning() {
+
+        return recording != null
+                && recording.getState() == RecordingState.RUNNING;
+
+    }
+
+}
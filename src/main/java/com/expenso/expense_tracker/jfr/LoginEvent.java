@@ -0,0 +1,43 @@
+package com.expenso.expense_tracker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import lombok.Setter;
+
+/**
+ * One AuthService.login call, successful or not.
+ */
+@Name("expenso.Login")
+@Label("Login")
+@Setter
+public class LoginEvent extends ServiceEvent {
+
+    @Label("Outcome")
+    @Description("SUCCESS, UNKNOWN_EMAIL, DISABLED or BAD_PASSWORD")
+    private String outcome;
+
+    @Label("Rehashed")
+    @Description("Whether the password was rehashed at a higher BCrypt strength")
+    private boolean rehashed;
+
+    @Label("User Lookup")
+    @Timespan
+    private long lookupTime;
+
+    @Label("Password Check")
+    @Description("BCrypt verification, including the wait for a hashing worker")
+    @Timespan
+    private long passwordCheckTime;
+
+    @Label("Rehash")
+    @Timespan
+    private long rehashTime;
+
+    @Label("Token")
+    @Timespan
+    private long tokenTime;
+
+}
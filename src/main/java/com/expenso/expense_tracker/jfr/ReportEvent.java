@@ -0,0 +1,48 @@
+package com.expenso.expense_tracker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import lombok.Setter;
+
+/**
+ * One ReportService.getReport or getMonthlyReport call.
+ */
+@Name("expenso.Report")
+@Label("Report")
+@Description("Report over a date range, with every transaction in it")
+@Setter
+public class ReportEvent extends ServiceEvent {
+
+    @Label("Kind")
+    @Description("monthly or custom")
+    private String kind;
+
+    @Label("Start Date")
+    private String startDate;
+
+    @Label("End Date")
+    private String endDate;
+
+    @Label("Transaction Rows")
+    private int transactionRows;
+
+    @Label("Rollup Rows")
+    @Description("Rollup rows read for the totals; 0 when totals are summed from the transactions")
+    private int rollupRows;
+
+    @Label("Totals")
+    @Timespan
+    private long totalsTime;
+
+    @Label("Transactions Query")
+    @Timespan
+    private long queryTime;
+
+    @Label("Mapping")
+    @Timespan
+    private long mappingTime;
+
+}
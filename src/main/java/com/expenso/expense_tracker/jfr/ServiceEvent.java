@@ -0,0 +1,80 @@
+package com.expenso.expense_tracker.jfr;
+
+import java.util.UUID;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Service Event
+ *
+ * Base of the application's Java Flight Recorder events.
+ *
+ * Usage:
+ *
+ * event.start() when the call begins, lap() after each phase
+ * (time since the previous lap), finish(userId) at the end.
+ * While no recording enables the event, nothing is written
+ * and only the lap clock reads cost anything.
+ *
+ * The user id is stored as a keyed hash (UserIdHasher) so
+ * recordings can correlate events per user without carrying
+ * the id itself.
+ */
+@Category({"Expenso", "Service"})
+@StackTrace(false)
+public abstract class ServiceEvent extends Event {
+
+    /*
+     * Inherited event fields must not be private,
+     * or JFR does not record them.
+     */
+    @Label("User Id Hash")
+    @Description("Keyed hash of the user id; empty when the user is unknown")
+    protected String userIdHash;
+
+    private transient long lastLap;
+
+    public void start() {
+
+        begin();
+
+        lastLap = System.nanoTime();
+
+    }
+
+    /**
+     * Nanoseconds since start() or the previous lap().
+     */
+    public long lap() {
+
+        long now = System.nanoTime();
+
+        long elapsed = now - lastLap;
+
+        lastLap = now;
+
+        return elapsed;
+
+    }
+
+    public void finish(UUID userId) {
+
+        end();
+
+        if (shouldCommit()) {
+
+            userIdHash = userId == null
+                    ? null
+                    : UserIdHasher.hash(userId);
+
+            commit();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.expenso.expense_tracker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import lombok.Setter;
+
+/**
+ * One TransactionService.getTransactions call.
+ */
+@Name("expenso.TransactionPage")
+@Label("Transaction Page")
+@Description("Offset-paginated, filtered transaction list")
+@Setter
+public class TransactionPageEvent extends ServiceEvent {
+
+    @Label("Search Mode")
+    @Description("Empty when there is no search text")
+    private String searchMode;
+
+    @Label("Filtered")
+    @Description("Whether a type, category or date filter was applied")
+    private boolean filtered;
+
+    @Label("Page")
+    private int page;
+
+    @Label("Page Size")
+    private int pageSize;
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Total Rows")
+    @Description("-1 when the total was not requested")
+    private long totalRows;
+
+    @Label("Query")
+    @Description("Page query plus the count query, when one ran")
+    @Timespan
+    private long queryTime;
+
+    @Label("Mapping")
+    @Timespan
+    private long mappingTime;
+
+}
@@ -0,0 +1,77 @@
+package com.expenso.expense_tracker.jfr;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * User Id Hasher
+ *
+ * HMAC-SHA-256 of a user id, truncated to 64 bits, for the
+ * userIdHash field of ServiceEvent. Without the key, a list of
+ * user ids cannot be matched against a recording, and 64 bits
+ * keep collisions between users negligible.
+ *
+ * The key is set per deployment from app.jfr.user-id-key. If
+ * none is configured, a random key is generated, so hashes are
+ * only stable for the lifetime of the process.
+ */
+final class UserIdHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static volatile SecretKeySpec key = randomKey();
+
+    private UserIdHasher() {
+    }
+
+    static void setKey(String secret) {
+
+        key = secret == null || secret.isBlank()
+                ? randomKey()
+                : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+
+    }
+
+    static String hash(UUID userId) {
+
+        byte[] id = ByteBuffer.allocate(16)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .array();
+
+        try {
+
+            Mac mac = Mac.getInstance(ALGORITHM);
+
+            mac.init(key);
+
+            return HEX.formatHex(mac.doFinal(id), 0, 8);
+
+        } catch (GeneralSecurityException exception) {
+
+            throw new IllegalStateException("HmacSHA256 is not available.", exception);
+
+        }
+
+    }
+
+    private static SecretKeySpec randomKey() {
+
+        byte[] secret = new byte[32];
+
+        new SecureRandom().nextBytes(secret);
+
+        return new SecretKeySpec(secret, ALGORITHM);
+
+    }
+
+}
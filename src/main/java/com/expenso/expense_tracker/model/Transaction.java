@@ -25,7 +25,9 @@ import java.util.UUID;
 
                 @Index(name = "idx_transactions_user_type_date", columnList = "userId,type,date"),
 
-                @Index(name = "idx_transactions_user_category", columnList = "userId,category")
+                @Index(name = "idx_transactions_user_category", columnList = "userId,category"),
+
+                @Index(name = "idx_transactions_user_date_id", columnList = "userId,date,id")
 
 })
 @Getter
@@ -35,8 +37,13 @@ import java.util.UUID;
 @Builder
 public class Transaction {
 
+        /**
+         * Sequence ids (pooled, 50 per round trip) keep Hibernate's
+         * JDBC insert batching available; IDENTITY disables it.
+         */
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+        @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
         private Long id;
 
         @Column(nullable = false)
@@ -8,6 +8,7 @@ import jakarta.validation.constraints.Size;
 
 import lombok.*;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -27,6 +28,10 @@ import java.util.UUID;
                 @Index(
                         name = "idx_user_email",
                         columnList = "email"
+                ),
+                @Index(
+                        name = "idx_user_updated_at",
+                        columnList = "updatedAt"
                 )
         }
 )
@@ -64,6 +69,15 @@ public class User {
     @Column(nullable = false)
     private boolean active = true;
 
+    /**
+     * Tokens carrying an older version are rejected.
+     * Bumped whenever existing sessions must end.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenVersion = 0;
+
     @CreationTimestamp
     @Column(nullable = false,updatable = false)
     private LocalDateTime createdAt;
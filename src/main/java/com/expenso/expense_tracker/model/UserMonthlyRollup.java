@@ -0,0 +1,65 @@
+package com.expenso.expense_tracker.model;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * User Monthly Rollup
+ *
+ * Pre-aggregated totals per user, month, type and category.
+ *
+ * Maintained incrementally by every transaction write so the
+ * dashboard and monthly report never have to scan raw rows.
+ */
+@Entity
+@Table(name = "user_monthly_rollup", uniqueConstraints = {
+
+                @UniqueConstraint(name = "uk_rollup_user_period_type_category", columnNames = {
+                                "userId", "period", "type", "category" })
+
+}, indexes = {
+
+                @Index(name = "idx_rollup_user_period", columnList = "userId,period")
+
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserMonthlyRollup {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private UUID userId;
+
+        /**
+         * First day of the month this bucket covers.
+         */
+        @Column(nullable = false)
+        private LocalDate period;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        private TransactionType type;
+
+        @Column(nullable = false, length = 100)
+        private String category;
+
+        @Column(nullable = false, precision = 14, scale = 2)
+        private BigDecimal totalAmount;
+
+        @Column(nullable = false)
+        private long transactionCount;
+
+}
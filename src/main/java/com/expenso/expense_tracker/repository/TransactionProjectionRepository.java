@@ -0,0 +1,35 @@
+package com.expenso.expense_tracker.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
+import com.expenso.expense_tracker.model.Transaction;
+
+/**
+ * Sparse reads for the fields parameter.
+ *
+ * Selects only the columns of the requested fields and builds
+ * TransactionDTOs from them directly, without loading entities
+ * or running the mapper. Properties outside the set stay null.
+ *
+ * An unsorted Sort keeps any ordering the specification sets.
+ */
+public interface TransactionProjectionRepository {
+
+        List<TransactionDTO> findFields(
+                        Specification<Transaction> specification,
+                        Set<TransactionField> fields,
+                        Sort sort);
+
+        List<TransactionDTO> findFields(
+                        Specification<Transaction> specification,
+                        Set<TransactionField> fields,
+                        Sort sort,
+                        long offset,
+                        int limit);
+}
@@ -0,0 +1,140 @@
+package com.expenso.expense_tracker.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
+import com.expenso.expense_tracker.model.Transaction;
+
+/**
+ * Criteria tuple query implementation of
+ * TransactionProjectionRepository.
+ *
+ * Tuples are not managed, so nothing is added to the
+ * persistence context either.
+ */
+class TransactionProjectionRepositoryImpl implements TransactionProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionDTO> findFields(
+            Specification<Transaction> specification,
+            Set<TransactionField> fields,
+            Sort sort
+    ) {
+
+        return toTransactions(
+                tupleQuery(specification, fields, sort).getResultList(),
+                fields
+        );
+
+    }
+
+    @Override
+    public List<TransactionDTO> findFields(
+            Specification<Transaction> specification,
+            Set<TransactionField> fields,
+            Sort sort,
+            long offset,
+            int limit
+    ) {
+
+        TypedQuery<Tuple> query = tupleQuery(specification, fields, sort);
+
+        query.setFirstResult(Math.toIntExact(offset));
+        query.setMaxResults(limit);
+
+        return toTransactions(query.getResultList(), fields);
+
+    }
+
+    /**
+     * select <field columns> from Transaction where <specification>
+     * order by <sort>, in field declaration order.
+     */
+    private TypedQuery<Tuple> tupleQuery(
+            Specification<Transaction> specification,
+            Set<TransactionField> fields,
+            Sort sort
+    ) {
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+
+        Root<Transaction> root = query.from(Transaction.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+
+        for (TransactionField field : fields) {
+
+            selections.add(root.get(field.getProperty()));
+
+        }
+
+        query.multiselect(selections);
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+
+        if (predicate != null) {
+
+            query.where(predicate);
+
+        }
+
+        if (sort.isSorted()) {
+
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        }
+
+        return entityManager.createQuery(query);
+
+    }
+
+    private List<TransactionDTO> toTransactions(
+            List<Tuple> tuples,
+            Set<TransactionField> fields
+    ) {
+
+        List<TransactionDTO> transactions = new ArrayList<>(tuples.size());
+
+        for (Tuple tuple : tuples) {
+
+            TransactionDTO transaction = new TransactionDTO();
+
+            int index = 0;
+
+            for (TransactionField field : fields) {
+
+                field.set(transaction, tuple.get(index++));
+
+            }
+
+            transactions.add(transaction);
+
+        }
+
+        return transactions;
+
+    }
+
+}
@@ -1,23 +1,38 @@
 package com.expenso.expense_tracker.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.expenso.expense_tracker.enums.TransactionType;
 import com.expenso.expense_tracker.model.Transaction;
+import com.expenso.expense_tracker.repository.projection.RollupBucket;
 
 @Repository
 public interface TransactionRepository
                 extends JpaRepository<Transaction, Long>,
-                JpaSpecificationExecutor<Transaction> {
+                JpaSpecificationExecutor<Transaction>,
+                TransactionWriteRepository,
+                TransactionProjectionRepository {
+
+        String STREAM_FETCH_SIZE = "500";
 
         List<Transaction> findByUserIdOrderByDateDesc(
                         UUID userId);
@@ -63,4 +78,146 @@ public interface TransactionRepository
 
         long countByUserId(
                         UUID userId);
-}
\ No newline at end of file
+
+        List<Transaction> findTop5ByUserIdOrderByDateDescIdDesc(
+                        UUID userId);
+
+        /**
+         * Unmanaged copy of the row, for writes that need the old
+         * values without loading and dirty-checking the entity.
+         */
+        @Query("""
+                        select new com.expenso.expense_tracker.model.Transaction(
+                               t.id, t.userId, t.type, t.amount, t.category,
+                               t.date, t.notes, t.createdAt, t.updatedAt)
+                        from Transaction t
+                        where t.id = :id
+                          and t.userId = :userId
+                        """)
+        Optional<Transaction> findSnapshotByIdAndUserId(
+                        @Param("id") Long id,
+                        @Param("userId") UUID userId);
+
+        /**
+         * Returns the number of rows updated; 0 when the
+         * transaction does not exist or belongs to someone else.
+         */
+        @Modifying
+        @Query("""
+                        update Transaction t
+                        set t.type = :type,
+                            t.amount = :amount,
+                            t.category = :category,
+                            t.date = :date,
+                            t.notes = :notes,
+                            t.updatedAt = :updatedAt
+                        where t.id = :id
+                          and t.userId = :userId
+                        """)
+        int updateByIdAndUserId(
+                        @Param("id") Long id,
+                        @Param("userId") UUID userId,
+                        @Param("type") TransactionType type,
+                        @Param("amount") BigDecimal amount,
+                        @Param("category") String category,
+                        @Param("date") LocalDate date,
+                        @Param("notes") String notes,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+        /**
+         * Returns the number of rows deleted; 0 when the
+         * transaction does not exist or belongs to someone else.
+         */
+        @Modifying
+        @Query("delete from Transaction t where t.id = :id and t.userId = :userId")
+        int deleteByIdAndUserId(
+                        @Param("id") Long id,
+                        @Param("userId") UUID userId);
+
+        /**
+         * Distinct users that own at least one transaction.
+         */
+        @Query("select distinct t.userId from Transaction t")
+        List<UUID> findDistinctUserIds();
+
+        /**
+         * Recomputes rollup buckets straight from raw transactions.
+         *
+         * Used only by the rollup verification job.
+         */
+        @Query("""
+                        select extract(year from t.date) as periodYear,
+                               extract(month from t.date) as periodMonth,
+                               t.type as type,
+                               t.category as category,
+                               sum(t.amount) as total,
+                               count(t) as transactionCount
+                        from Transaction t
+                        where t.userId = :userId
+                        group by extract(year from t.date),
+                                 extract(month from t.date),
+                                 t.type,
+                                 t.category
+                        """)
+        List<RollupBucket> summarizeByUser(
+                        @Param("userId") UUID userId);
+
+        /*
+         * Streaming variants.
+         *
+         * Rows are pulled from a server-side cursor in chunks of
+         * STREAM_FETCH_SIZE. The caller must consume the stream
+         * inside a transaction and close it.
+         */
+
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("select t from Transaction t where t.userId = :userId order by t.date desc, t.id desc")
+        Stream<Transaction> streamByUserId(
+                        @Param("userId") UUID userId);
+
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("""
+                        select t from Transaction t
+                        where t.userId = :userId
+                          and lower(t.category) = lower(:category)
+                        order by t.date desc, t.id desc
+                        """)
+        Stream<Transaction> streamByUserIdAndCategory(
+                        @Param("userId") UUID userId,
+                        @Param("category") String category);
+
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("""
+                        select t from Transaction t
+                        where t.userId = :userId
+                          and t.type = :type
+                        order by t.date desc, t.id desc
+                        """)
+        Stream<Transaction> streamByUserIdAndType(
+                        @Param("userId") UUID userId,
+                        @Param("type") TransactionType type);
+
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("""
+                        select t from Transaction t
+                        where t.userId = :userId
+                          and t.date between :startDate and :endDate
+                        order by t.date desc, t.id desc
+                        """)
+        Stream<Transaction> streamByUserIdAndDateBetween(
+                        @Param("userId") UUID userId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,36 @@
+package com.expenso.expense_tracker.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.model.Transaction;
+import com.expenso.expense_tracker.repository.projection.TransactionChange;
+
+/**
+ * Single-statement writes for PostgreSQL.
+ *
+ * Each method is one UPDATE / DELETE ... RETURNING round trip
+ * that only touches the row when it belongs to the user, and
+ * hands back the old values needed for rollup deltas. Empty
+ * means no row matched.
+ */
+public interface TransactionWriteRepository {
+
+        Optional<TransactionChange> updateReturning(
+                        Long id,
+                        UUID userId,
+                        TransactionType type,
+                        BigDecimal amount,
+                        String category,
+                        LocalDate date,
+                        String notes,
+                        LocalDateTime updatedAt);
+
+        Optional<Transaction> deleteReturning(
+                        Long id,
+                        UUID userId);
+}
@@ -0,0 +1,168 @@
+package com.expenso.expense_tracker.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.query.NativeQuery;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.model.Transaction;
+import com.expenso.expense_tracker.repository.projection.TransactionChange;
+
+/**
+ * Native PostgreSQL implementation of TransactionWriteRepository.
+ *
+ * The update locks and reads the old row in a CTE and returns
+ * it next to the new one, so both come back in one statement.
+ */
+class TransactionWriteRepositoryImpl implements TransactionWriteRepository {
+
+    private static final String UPDATE_RETURNING = """
+            with previous as (
+                select id, type, amount, category, date
+                from transactions
+                where id = :id
+                  and user_id = :userId
+                for update
+            )
+            update transactions t
+            set type = :type,
+                amount = :amount,
+                category = :category,
+                date = :date,
+                notes = :notes,
+                updated_at = :updatedAt
+            from previous
+            where t.id = previous.id
+            returning t.id, t.user_id, t.type, t.amount, t.category, t.date,
+                      t.notes, t.created_at, t.updated_at,
+                      previous.type as previous_type,
+                      previous.amount as previous_amount,
+                      previous.category as previous_category,
+                      previous.date as previous_date
+            """;
+
+    private static final String DELETE_RETURNING = """
+            delete from transactions
+            where id = :id
+              and user_id = :userId
+            returning id, user_id, type, amount, category, date,
+                      notes, created_at, updated_at
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TransactionChange> updateReturning(
+            Long id,
+            UUID userId,
+            TransactionType type,
+            BigDecimal amount,
+            String category,
+            LocalDate date,
+            String notes,
+            LocalDateTime updatedAt
+    ) {
+
+        NativeQuery<Object[]> query = rowQuery(UPDATE_RETURNING)
+                .addScalar("previous_type", String.class)
+                .addScalar("previous_amount", BigDecimal.class)
+                .addScalar("previous_category", String.class)
+                .addScalar("previous_date", LocalDate.class);
+
+        query.setParameter("id", id);
+        query.setParameter("userId", userId);
+        query.setParameter("type", type.name());
+        query.setParameter("amount", amount);
+        query.setParameter("category", category);
+        query.setParameter("date", date);
+        query.setParameter("notes", notes, String.class);
+        query.setParameter("updatedAt", updatedAt);
+
+        return first(query.getResultList()).map(row -> {
+
+            Transaction after = toTransaction(row);
+
+            Transaction before = Transaction.builder()
+                    .id(after.getId())
+                    .userId(after.getUserId())
+                    .type(TransactionType.valueOf((String) row[9]))
+                    .amount((BigDecimal) row[10])
+                    .category((String) row[11])
+                    .date((LocalDate) row[12])
+                    .build();
+
+            return new TransactionChange(before, after);
+
+        });
+
+    }
+
+    @Override
+    public Optional<Transaction> deleteReturning(
+            Long id,
+            UUID userId
+    ) {
+
+        NativeQuery<Object[]> query = rowQuery(DELETE_RETURNING);
+
+        query.setParameter("id", id);
+        query.setParameter("userId", userId);
+
+        return first(query.getResultList()).map(this::toTransaction);
+
+    }
+
+    /**
+     * Native query typed for the transaction columns, in order.
+     */
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object[]> rowQuery(String sql) {
+
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("user_id", UUID.class)
+                .addScalar("type", String.class)
+                .addScalar("amount", BigDecimal.class)
+                .addScalar("category", String.class)
+                .addScalar("date", LocalDate.class)
+                .addScalar("notes", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class);
+
+    }
+
+    private Optional<Object[]> first(List<Object[]> rows) {
+
+        return rows.isEmpty()
+                ? Optional.empty()
+                : Optional.of(rows.get(0));
+
+    }
+
+    private Transaction toTransaction(Object[] row) {
+
+        return Transaction.builder()
+                .id((Long) row[0])
+                .userId((UUID) row[1])
+                .type(TransactionType.valueOf((String) row[2]))
+                .amount((BigDecimal) row[3])
+                .category((String) row[4])
+                .date((LocalDate) row[5])
+                .notes((String) row[6])
+                .createdAt((LocalDateTime) row[7])
+                .updatedAt((LocalDateTime) row[8])
+                .build();
+
+    }
+
+}
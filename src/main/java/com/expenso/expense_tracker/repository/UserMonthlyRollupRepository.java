@@ -0,0 +1,119 @@
+package com.expenso.expense_tracker.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.model.UserMonthlyRollup;
+import com.expenso.expense_tracker.repository.projection.CategoryTotal;
+import com.expenso.expense_tracker.repository.projection.MonthlyTypeTotal;
+
+@Repository
+public interface UserMonthlyRollupRepository
+                extends JpaRepository<UserMonthlyRollup, Long> {
+
+        List<UserMonthlyRollup> findByUserId(
+                        UUID userId);
+
+        @Query("select distinct r.userId from UserMonthlyRollup r")
+        List<UUID> findDistinctUserIds();
+
+        @Modifying
+        @Query("delete from UserMonthlyRollup r where r.userId = :userId")
+        int deleteByUserId(
+                        @Param("userId") UUID userId);
+
+        /**
+         * Adds a delta to an existing bucket.
+         *
+         * Returns 0 when the bucket does not exist yet.
+         */
+        @Modifying
+        @Query("""
+                        update UserMonthlyRollup r
+                        set r.totalAmount = r.totalAmount + :amount,
+                            r.transactionCount = r.transactionCount + :count
+                        where r.userId = :userId
+                          and r.period = :period
+                          and r.type = :type
+                          and r.category = :category
+                        """)
+        int applyDelta(
+                        @Param("userId") UUID userId,
+                        @Param("period") LocalDate period,
+                        @Param("type") TransactionType type,
+                        @Param("category") String category,
+                        @Param("amount") BigDecimal amount,
+                        @Param("count") long count);
+
+        /**
+         * PostgreSQL: adds a delta to a bucket, creating it if
+         * needed, in one statement. Concurrent first writes to the
+         * same bucket cannot both insert.
+         */
+        @Modifying
+        @Query(value = """
+                        insert into user_monthly_rollup
+                            (user_id, period, type, category, total_amount, transaction_count)
+                        values (:userId, :period, :type, :category, :amount, :count)
+                        on conflict (user_id, period, type, category)
+                        do update set
+                            total_amount = user_monthly_rollup.total_amount + excluded.total_amount,
+                            transaction_count = user_monthly_rollup.transaction_count + excluded.transaction_count
+                        """, nativeQuery = true)
+        int upsertDelta(
+                        @Param("userId") UUID userId,
+                        @Param("period") LocalDate period,
+                        @Param("type") String type,
+                        @Param("category") String category,
+                        @Param("amount") BigDecimal amount,
+                        @Param("count") long count);
+
+        /**
+         * Income / expense totals grouped by month.
+         */
+        @Query("""
+                        select extract(year from r.period) as periodYear,
+                               extract(month from r.period) as periodMonth,
+                               r.type as type,
+                               sum(r.totalAmount) as total
+                        from UserMonthlyRollup r
+                        where r.userId = :userId
+                          and r.period between :startPeriod and :endPeriod
+                        group by extract(year from r.period),
+                                 extract(month from r.period),
+                                 r.type
+                        """)
+        List<MonthlyTypeTotal> sumByMonthAndType(
+                        @Param("userId") UUID userId,
+                        @Param("startPeriod") LocalDate startPeriod,
+                        @Param("endPeriod") LocalDate endPeriod);
+
+        /**
+         * Category totals for one type, largest first.
+         */
+        @Query("""
+                        select r.category as category,
+                               sum(r.totalAmount) as total
+                        from UserMonthlyRollup r
+                        where r.userId = :userId
+                          and r.type = :type
+                          and r.period between :startPeriod and :endPeriod
+                          and r.transactionCount > 0
+                        group by r.category
+                        order by sum(r.totalAmount) desc
+                        """)
+        List<CategoryTotal> sumByCategory(
+                        @Param("userId") UUID userId,
+                        @Param("type") TransactionType type,
+                        @Param("startPeriod") LocalDate startPeriod,
+                        @Param("endPeriod") LocalDate endPeriod);
+}
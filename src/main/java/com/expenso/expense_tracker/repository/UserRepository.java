@@ -1,25 +1,38 @@
 package com.expenso.expense_tracker.repository;
 
 import com.expenso.expense_tracker.model.User;
+import com.expenso.expense_tracker.repository.projection.UserTokenState;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    /*
+     * Emails are stored normalized (AuthService.normalizeEmail),
+     * so lookups are exact matches served by the unique index.
+     * Callers must pass a normalized email.
+     */
+
     /**
-     * Find user by email (case-insensitive)
+     * Find user by email
      */
-    Optional<User> findByEmailIgnoreCase(String email);
+    Optional<User> findByEmail(String email);
 
     /**
      * Check if email already exists
      */
-    boolean existsByEmailIgnoreCase(String email);
+    boolean existsByEmail(String email);
 
     /**
      * Find only active user
@@ -29,11 +42,45 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     /**
      * Find active user by email.
      */
-    Optional<User> findByEmailIgnoreCaseAndActiveTrue(String email);
+    Optional<User> findByEmailAndActiveTrue(String email);
 
     /**
      * Check active email.
      */
-    boolean existsByEmailIgnoreCaseAndActiveTrue(String email);
+    boolean existsByEmailAndActiveTrue(String email);
+
+    /**
+     * Replace the password hash only if it is still the one
+     * that was verified, without touching any other column.
+     *
+     * Returns 0 when the password changed in the meantime.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update User u
+            set u.password = :hash
+            where u.id = :id
+              and u.password = :oldHash
+            """)
+    int updatePasswordHash(
+            @Param("id") UUID id,
+            @Param("oldHash") String oldHash,
+            @Param("hash") String hash);
+
+    /**
+     * Token state of users changed after the given time,
+     * served by the updated_at index.
+     */
+    @Query("""
+            select u.id as id,
+                   u.active as active,
+                   u.tokenVersion as tokenVersion,
+                   u.updatedAt as updatedAt
+            from User u
+            where u.updatedAt > :since
+            """)
+    List<UserTokenState> findTokenStatesUpdatedAfter(
+            @Param("since") LocalDateTime since);
 
-}
\ No newline at end of file
+}
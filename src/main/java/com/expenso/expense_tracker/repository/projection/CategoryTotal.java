@@ -0,0 +1,16 @@
+package com.expenso.expense_tracker.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Category Total
+ *
+ * Sum of transaction amounts for one category.
+ */
+public interface CategoryTotal {
+
+    String getCategory();
+
+    BigDecimal getTotal();
+
+}
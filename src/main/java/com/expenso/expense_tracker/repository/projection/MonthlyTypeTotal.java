@@ -0,0 +1,22 @@
+package com.expenso.expense_tracker.repository.projection;
+
+import java.math.BigDecimal;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+
+/**
+ * Monthly Type Total
+ *
+ * Sum of one transaction type within a calendar month.
+ */
+public interface MonthlyTypeTotal {
+
+    Integer getPeriodYear();
+
+    Integer getPeriodMonth();
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+
+}
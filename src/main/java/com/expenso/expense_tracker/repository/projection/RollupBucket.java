@@ -0,0 +1,27 @@
+package com.expenso.expense_tracker.repository.projection;
+
+import java.math.BigDecimal;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+
+/**
+ * Rollup Bucket
+ *
+ * Totals for one (month, type, category) bucket, recomputed
+ * from raw transactions when verifying rollups.
+ */
+public interface RollupBucket {
+
+    Integer getPeriodYear();
+
+    Integer getPeriodMonth();
+
+    TransactionType getType();
+
+    String getCategory();
+
+    BigDecimal getTotal();
+
+    Long getTransactionCount();
+
+}
@@ -0,0 +1,14 @@
+package com.expenso.expense_tracker.repository.projection;
+
+import com.expenso.expense_tracker.model.Transaction;
+
+/**
+ * Transaction Change
+ *
+ * Detached copies of a transaction before and after an update.
+ */
+public record TransactionChange(
+        Transaction before,
+        Transaction after
+) {
+}
@@ -0,0 +1,21 @@
+package com.expenso.expense_tracker.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * User Token State
+ *
+ * Account status and token version of one user.
+ */
+public interface UserTokenState {
+
+    UUID getId();
+
+    boolean getActive();
+
+    int getTokenVersion();
+
+    LocalDateTime getUpdatedAt();
+
+}
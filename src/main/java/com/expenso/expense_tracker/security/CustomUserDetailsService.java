@@ -7,20 +7,19 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import com.expenso.expense_tracker.model.User;
-import com.expenso.expense_tracker.repository.UserRepository;
+import com.expenso.expense_tracker.cache.UserPrincipalCache;
 
 /**
  * Custom UserDetailsService
  *
- * Loads user details from database
- * for Spring Security authentication.
+ * Loads user details from the user cache
+ * (backed by the database) for Spring Security authentication.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * Load user by email.
@@ -29,9 +28,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
 
-        User user = userRepository
+        return userPrincipalCache
 
-                .findByEmailIgnoreCaseAndActiveTrue(email)
+                .getActiveUserByEmail(email)
 
                 .orElseThrow(() ->
                         new UsernameNotFoundException(
@@ -39,8 +38,6 @@ public class CustomUserDetailsService implements UserDetailsService {
                         )
                 );
 
-        return new UserPrincipal(user);
-
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.expenso.expense_tracker.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * JWT Authentication
+ *
+ * Authentication created from a verified token.
+ * Keeps the token's claims next to the principal.
+ */
+public class JwtAuthentication extends AbstractAuthenticationToken {
+
+    private final UserDetails principal;
+
+    private final JwtClaims claims;
+
+    public JwtAuthentication(
+            UserDetails principal,
+            JwtClaims claims
+    ) {
+
+        super(principal.getAuthorities());
+
+        this.principal = principal;
+
+        this.claims = claims;
+
+        setAuthenticated(true);
+
+    }
+
+    public JwtClaims getClaims() {
+
+        return claims;
+
+    }
+
+    @Override
+    public Object getPrincipal() {
+
+        return principal;
+
+    }
+
+    /**
+     * The token is not kept once verified.
+     */
+    @Override
+    public Object getCredentials() {
+
+        return null;
+
+    }
+
+}
@@ -9,22 +9,25 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.expenso.expense_tracker.web.RequestTimings;
+import com.expenso.expense_tracker.web.RequestTimings.Phase;
+
 /**
  * JWT Authentication Filter
  *
  * Executes once per request.
  *
  * Extracts JWT Token
- * Validates JWT
- * Loads User
+ * Validates JWT (parsed once; claims kept on the Authentication)
+ * Rejects Revoked Tokens
+ * Builds User From Claims (no database lookup)
  * Sets Authentication Context
+ * Reports its time as the "auth" Server-Timing phase
  */
 @Component
 @RequiredArgsConstructor
@@ -32,7 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         private final JwtService jwtService;
 
-        private final CustomUserDetailsService customUserDetailsService;
+        private final TokenRevocationRegistry tokenRevocationRegistry;
 
         /**
          * Filter Request
@@ -55,21 +58,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 }
 
+                RequestTimings.enter(Phase.AUTH);
+
                 try {
 
                         String token = authorizationHeader.substring(
                                         SecurityConstants.TOKEN_PREFIX.length());
 
-                        if (SecurityContextHolder.getContext().getAuthentication() == null
-                                        && jwtService.isTokenValid(token)) {
+                        JwtClaims claims = SecurityContextHolder.getContext().getAuthentication() == null
+                                        ? jwtService.parseToken(token)
+                                        : null;
 
-                                UserDetails userDetails = customUserDetailsService.loadUserByUsername(
-                                                jwtService.extractUsername(token));
+                        if (claims != null
+                                        && !tokenRevocationRegistry.isRevoked(claims)) {
 
-                                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                                                userDetails,
-                                                null,
-                                                userDetails.getAuthorities());
+                                JwtAuthentication authentication = new JwtAuthentication(
+                                                new UserPrincipal(claims),
+                                                claims);
 
                                 authentication.setDetails(
                                                 new WebAuthenticationDetailsSource()
@@ -85,6 +90,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                         SecurityContextHolder.clearContext();
 
+                } finally {
+
+                        RequestTimings.exit(Phase.AUTH);
+
                 }
 
                 filterChain.doFilter(request, response);
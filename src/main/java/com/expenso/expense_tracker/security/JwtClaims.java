@@ -0,0 +1,37 @@
+package com.expenso.expense_tracker.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.expenso.expense_tracker.enums.UserRole;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * JWT Claims
+ *
+ * Verified claims of the request's token.
+ *
+ * Built once by JwtAuthenticationFilter and carried on the
+ * Authentication, so controllers never parse the token again.
+ * Declare a JwtClaims parameter on a handler method to receive it.
+ */
+@Value
+@Builder
+public class JwtClaims {
+
+    UUID userId;
+
+    String email;
+
+    UserRole role;
+
+    /**
+     * User's token version at issue time; 0 for older tokens.
+     */
+    int tokenVersion;
+
+    Instant expiresAt;
+
+}
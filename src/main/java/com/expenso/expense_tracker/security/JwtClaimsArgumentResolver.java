@@ -0,0 +1,48 @@
+package com.expenso.expense_tracker.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.expenso.expense_tracker.exception.UnauthorizedException;
+
+/**
+ * Resolves JwtClaims handler parameters from the
+ * current JwtAuthentication.
+ */
+public class JwtClaimsArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+
+        return JwtClaims.class.equals(parameter.getParameterType());
+
+    }
+
+    @Override
+    public JwtClaims resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+
+        Authentication authentication = SecurityContextHolder
+                .getContext()
+                .getAuthentication();
+
+        if (authentication instanceof JwtAuthentication jwtAuthentication) {
+
+            return jwtAuthentication.getClaims();
+
+        }
+
+        throw new UnauthorizedException("Authentication required.");
+
+    }
+
+}
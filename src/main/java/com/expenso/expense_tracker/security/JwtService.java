@@ -1,6 +1,7 @@
 package com.expenso.expense_tracker.security;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
@@ -15,6 +16,7 @@ import com.expenso.expense_tracker.enums.UserRole;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -26,6 +28,9 @@ import io.jsonwebtoken.security.Keys;
  * - Validating JWT Tokens
  * - Extracting JWT Claims
  * - Extracting User Information
+ *
+ * A single immutable, thread-safe parser is built at startup
+ * and shared by every request.
  */
 @Service
 public class JwtService {
@@ -38,6 +43,8 @@ public class JwtService {
 
     private SecretKey secretKey;
 
+    private JwtParser jwtParser;
+
     /**
      * Initialize Secret Key
      */
@@ -48,6 +55,12 @@ public class JwtService {
                 jwtSecret.getBytes(StandardCharsets.UTF_8)
         );
 
+        this.jwtParser = Jwts.parser()
+
+                .verifyWith(secretKey)
+
+                .build();
+
     }
 
     /**
@@ -56,7 +69,8 @@ public class JwtService {
     public String generateToken(
             UUID userId,
             String email,
-            UserRole role
+            UserRole role,
+            int tokenVersion
     ) {
 
         Date issuedAt = new Date();
@@ -79,6 +93,11 @@ public class JwtService {
                         role.name()
                 )
 
+                .claim(
+                        "ver",
+                        tokenVersion
+                )
+
                 .issuedAt(issuedAt)
 
                 .expiration(expiration)
@@ -119,11 +138,7 @@ public class JwtService {
 
         try {
 
-            return Jwts.parser()
-
-                    .verifyWith(secretKey)
-
-                    .build()
+            return jwtParser
 
                     .parseSignedClaims(
                             extractRawToken(token)
@@ -141,6 +156,48 @@ public class JwtService {
 
     }
 
+    /**
+     * Parse JWT Token
+     *
+     * Verifies the token once and returns all claims
+     * the application uses.
+     */
+    public JwtClaims parseToken(String token) {
+
+        Claims claims = getClaims(token);
+
+        return JwtClaims.builder()
+
+                .userId(
+                        UUID.fromString(
+                                claims.get("userId", String.class)
+                        )
+                )
+
+                .email(claims.getSubject())
+
+                .role(
+                        UserRole.valueOf(
+                                claims.get("role", String.class)
+                        )
+                )
+
+                .tokenVersion(
+                        claims.get("ver", Integer.class) == null
+                                ? 0
+                                : claims.get("ver", Integer.class)
+                )
+
+                .expiresAt(
+                        Instant.ofEpochMilli(
+                                claims.getExpiration().getTime()
+                        )
+                )
+
+                .build();
+
+    }
+
     /**
      * Extract User ID
      */
@@ -1,5 +1,6 @@
 package com.expenso.expense_tracker.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -15,11 +16,16 @@ public class PasswordConfig {
 
     /**
      * BCrypt Password Encoder
+     *
+     * Stored hashes with a lower strength are upgraded on the
+     * next successful login.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.bcrypt.strength:10}") int strength
+    ) {
 
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(strength);
 
     }
 
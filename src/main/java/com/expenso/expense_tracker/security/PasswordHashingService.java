@@ -0,0 +1,329 @@
+package com.expenso.expense_tracker.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.expenso.expense_tracker.dto.admin.OperationStatsResponse;
+import com.expenso.expense_tracker.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Password Hashing Service
+ *
+ * Runs BCrypt encode / matches on the bounded
+ * passwordHashExecutor instead of the request thread, so a
+ * login burst cannot starve the other endpoints.
+ *
+ * When the pool and its queue are full, or a hash waits
+ * longer than the timeout, the call fails fast with 503.
+ *
+ * Records queue and run latency per operation, reported on
+ * the admin API and as bcrypt.* meters.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements MeterBinder {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Duration timeout;
+
+    private final int strength;
+
+    private final OperationStats encodeStats = new OperationStats("encode");
+
+    private final OperationStats matchesStats = new OperationStats("matches");
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${app.security.bcrypt.timeout:5s}") Duration timeout,
+            @Value("${app.security.bcrypt.strength:10}") int strength
+    ) {
+
+        this.passwordEncoder = passwordEncoder;
+
+        this.executor = executor;
+
+        this.timeout = timeout;
+
+        this.strength = strength;
+
+    }
+
+    /**
+     * Log the cost of one hash at the configured strength, to
+     * help pick app.security.bcrypt.strength for the hardware.
+     */
+    @PostConstruct
+    public void logCalibration() {
+
+        /*
+         * The first hash runs interpreted; time the second.
+         */
+        passwordEncoder.encode("calibration");
+
+        long started = System.nanoTime();
+
+        passwordEncoder.encode("calibration");
+
+        log.info(
+                "BCrypt strength {} takes {} ms per hash on this host",
+                strength,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+        );
+
+    }
+
+    /**
+     * Hash a raw password.
+     */
+    public String encode(CharSequence rawPassword) {
+
+        return run(
+                encodeStats,
+                () -> passwordEncoder.encode(rawPassword)
+        );
+
+    }
+
+    /**
+     * Check a raw password against a stored hash.
+     */
+    public boolean matches(
+            CharSequence rawPassword,
+            String encodedPassword
+    ) {
+
+        return run(
+                matchesStats,
+                () -> passwordEncoder.matches(rawPassword, encodedPassword)
+        );
+
+    }
+
+    /**
+     * Was the stored hash made with a lower strength than the
+     * configured one? Cheap; runs inline.
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+
+    }
+
+    public List<OperationStatsResponse> stats() {
+
+        return List.of(
+                encodeStats.snapshot(),
+                matchesStats.snapshot()
+        );
+
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        encodeStats.bindTo(registry);
+
+        matchesStats.bindTo(registry);
+
+    }
+
+    private <T> T run(
+            OperationStats stats,
+            Callable<T> task
+    ) {
+
+        long submitted = System.nanoTime();
+
+        Future<T> future;
+
+        try {
+
+            future = executor.submit(() -> {
+
+                long started = System.nanoTime();
+
+                try {
+
+                    return task.call();
+
+                } finally {
+
+                    stats.record(
+                            started - submitted,
+                            System.nanoTime() - started
+                    );
+
+                }
+
+            });
+
+        } catch (TaskRejectedException exception) {
+
+            stats.reject();
+
+            throw busy();
+
+        }
+
+        try {
+
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException exception) {
+
+            future.cancel(true);
+
+            stats.reject();
+
+            throw busy();
+
+        } catch (InterruptedException exception) {
+
+            future.cancel(true);
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Password hashing was interrupted.", exception);
+
+        } catch (ExecutionException exception) {
+
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+
+                throw runtimeException;
+
+            }
+
+            throw new IllegalStateException("Password hashing failed.", exception.getCause());
+
+        }
+
+    }
+
+    private ServiceUnavailableException busy() {
+
+        return new ServiceUnavailableException(
+                "Too many sign-in requests. Please try again shortly."
+        );
+
+    }
+
+    /**
+     * Lock-free latency counters of one operation.
+     */
+    private static class OperationStats {
+
+        private final String name;
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder queueNanos = new LongAdder();
+
+        private final LongAdder runNanos = new LongAdder();
+
+        private final LongAccumulator maxRunNanos = new LongAccumulator(Math::max, 0);
+
+        OperationStats(String name) {
+
+            this.name = name;
+
+        }
+
+        void record(
+                long queued,
+                long ran
+        ) {
+
+            count.increment();
+
+            queueNanos.add(queued);
+
+            runNanos.add(ran);
+
+            maxRunNanos.accumulate(ran);
+
+        }
+
+        void reject() {
+
+            rejected.increment();
+
+        }
+
+        void bindTo(MeterRegistry registry) {
+
+            FunctionCounter.builder("bcrypt.operations", count, LongAdder::sum)
+                    .description("Completed BCrypt operations")
+                    .tag("operation", name)
+                    .register(registry);
+
+            FunctionCounter.builder("bcrypt.rejected", rejected, LongAdder::sum)
+                    .description("BCrypt operations rejected or timed out")
+                    .tag("operation", name)
+                    .register(registry);
+
+            FunctionCounter.builder("bcrypt.queue.time", queueNanos, nanos -> nanos.sum() / 1e9)
+                    .description("Total time spent waiting for a BCrypt worker")
+                    .baseUnit("seconds")
+                    .tag("operation", name)
+                    .register(registry);
+
+            FunctionCounter.builder("bcrypt.run.time", runNanos, nanos -> nanos.sum() / 1e9)
+                    .description("Total time spent hashing")
+                    .baseUnit("seconds")
+                    .tag("operation", name)
+                    .register(registry);
+
+            TimeGauge.builder("bcrypt.run.max", maxRunNanos, TimeUnit.NANOSECONDS, LongAccumulator::get)
+                    .description("Longest single hash since startup")
+                    .tag("operation", name)
+                    .register(registry);
+
+        }
+
+        OperationStatsResponse snapshot() {
+
+            long calls = count.sum();
+
+            return OperationStatsResponse.builder()
+                    .name(name)
+                    .count(calls)
+                    .rejectedCount(rejected.sum())
+                    .averageQueueMillis(calls == 0 ? 0 : queueNanos.sum() / 1_000_000.0 / calls)
+                    .averageRunMillis(calls == 0 ? 0 : runNanos.sum() / 1_000_000.0 / calls)
+                    .maxRunMillis(maxRunNanos.get() / 1_000_000.0)
+                    .build();
+
+        }
+
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.expenso.expense_tracker.security;
 
+import jakarta.servlet.DispatcherType;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
@@ -81,6 +83,16 @@ public class SecurityConfig {
                                  */
                                 .authorizeHttpRequests(auth -> auth
 
+                                                /*
+                                                 * Async dispatches of streamed responses
+                                                 * were already authorized on the request.
+                                                 */
+                                                .dispatcherTypeMatchers(
+
+                                                                DispatcherType.ASYNC
+
+                                                ).permitAll()
+
                                                 /*
                                                  * Public APIs
                                                  */
@@ -0,0 +1,187 @@
+package com.expenso.expense_tracker.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.expenso.expense_tracker.event.UserAccountChangedEvent;
+import com.expenso.expense_tracker.repository.UserRepository;
+import com.expenso.expense_tracker.repository.projection.UserTokenState;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token Revocation Registry
+ *
+ * Lets the JWT filter reject tokens without a database lookup.
+ *
+ * Only exceptional users are held in memory: deactivated users
+ * and users whose token version was bumped.
+ *
+ * Seeded from the database before the server starts, kept
+ * current by UserAccountChangedEvent, and polled on a fixed
+ * delay for users changed since the last poll (by the indexed
+ * updated_at), so changes made by other instances are picked up.
+ *
+ * An entry is dropped once it is older than the token lifetime:
+ * every token it could reject has expired by then, and inactive
+ * users cannot log in for new ones. This bounds the registry to
+ * the revocations of one token lifetime.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry implements SmartInitializingSingleton {
+
+    private final UserRepository userRepository;
+
+    private final Map<UUID, Revocation> revocations = new ConcurrentHashMap<>();
+
+    @Value("${jwt.expiration}")
+    private long tokenLifetimeMillis;
+
+    @Value("${app.security.revocation-refresh-interval:30s}")
+    private Duration refreshInterval;
+
+    private volatile LocalDateTime lastRefresh;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        refresh();
+
+    }
+
+    /**
+     * Is the token revoked?
+     */
+    public boolean isRevoked(JwtClaims claims) {
+
+        Revocation revocation = revocations.get(claims.getUserId());
+
+        return revocation != null
+                && (revocation.deactivated()
+                        || claims.getTokenVersion() < revocation.minimumVersion());
+
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+
+        apply(
+                event.getUserId(),
+                event.isActive(),
+                event.getTokenVersion(),
+                LocalDateTime.now()
+        );
+
+    }
+
+    /**
+     * Read users changed since the previous poll and drop
+     * entries older than the token lifetime.
+     *
+     * Each poll reaches back one extra interval, so a change
+     * whose updated_at was stamped before the previous poll but
+     * committed after it is not missed. Re-applying is harmless.
+     */
+    @Scheduled(
+            initialDelayString = "${app.security.revocation-refresh-interval:30s}",
+            fixedDelayString = "${app.security.revocation-refresh-interval:30s}"
+    )
+    public void refresh() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime horizon = now.minus(Duration.ofMillis(tokenLifetimeMillis));
+
+        LocalDateTime since = lastRefresh == null
+                ? horizon
+                : lastRefresh.minus(refreshInterval);
+
+        if (since.isBefore(horizon)) {
+
+            since = horizon;
+
+        }
+
+        int changed = 0;
+
+        for (UserTokenState state : userRepository.findTokenStatesUpdatedAfter(since)) {
+
+            apply(
+                    state.getId(),
+                    state.getActive(),
+                    state.getTokenVersion(),
+                    state.getUpdatedAt()
+            );
+
+            changed++;
+
+        }
+
+        revocations.values().removeIf(revocation -> revocation.changedAt().isBefore(horizon));
+
+        lastRefresh = now;
+
+        log.debug(
+                "Token revocation registry: {} changed users read, {} revocations held",
+                changed,
+                revocations.size()
+        );
+
+    }
+
+    /**
+     * Versions only ever move forward, so a stale read
+     * cannot un-revoke a token.
+     */
+    private void apply(
+            UUID userId,
+            boolean active,
+            int tokenVersion,
+            LocalDateTime changedAt
+    ) {
+
+        revocations.compute(userId, (id, current) -> {
+
+            int minimumVersion = current == null
+                    ? tokenVersion
+                    : Math.max(tokenVersion, current.minimumVersion());
+
+            if (active && minimumVersion == 0) {
+
+                return null;
+
+            }
+
+            LocalDateTime latest = current == null || changedAt.isAfter(current.changedAt())
+                    ? changedAt
+                    : current.changedAt();
+
+            return new Revocation(!active, minimumVersion, latest);
+
+        });
+
+    }
+
+    /**
+     * Revocation state of one user, as of its latest change.
+     */
+    private record Revocation(
+            boolean deactivated,
+            int minimumVersion,
+            LocalDateTime changedAt
+    ) {
+    }
+
+}
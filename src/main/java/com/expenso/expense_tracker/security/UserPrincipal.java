@@ -52,6 +52,22 @@ public class UserPrincipal implements UserDetails {
         );
     }
 
+    /**
+     * Constructor
+     * Stateless principal built from verified token claims.
+     * The token carries no name or password, so both are null.
+     */
+    public UserPrincipal(JwtClaims claims) {
+        this.id = claims.getUserId();
+        this.name = null;
+        this.email = claims.getEmail();
+        this.password = null;
+        this.active = true;
+        this.authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + claims.getRole().name())
+        );
+    }
+
     /**
      * Granted Authorities
      */
@@ -2,9 +2,7 @@ package com.expenso.expense_tracker.service;
 
 import java.util.Locale;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.expenso.expense_tracker.dto.auth.LoginRequest;
 import com.expenso.expense_tracker.dto.auth.LoginResponse;
@@ -13,10 +11,14 @@ import com.expenso.expense_tracker.dto.user.UserResponse;
 import com.expenso.expense_tracker.enums.UserRole;
 import com.expenso.expense_tracker.exception.DuplicateResourceException;
 import com.expenso.expense_tracker.exception.UnauthorizedException;
+import com.expenso.expense_tracker.jfr.LoginEvent;
 import com.expenso.expense_tracker.mapper.UserMapper;
 import com.expenso.expense_tracker.model.User;
 import com.expenso.expense_tracker.repository.UserRepository;
 import com.expenso.expense_tracker.security.JwtService;
+import com.expenso.expense_tracker.security.PasswordHashingService;
+
+import io.micrometer.core.annotation.Timed;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,18 +35,24 @@ import lombok.RequiredArgsConstructor;
  * • JWT Generation
  * • Authentication Validation
  *
+ * Deliberately not transactional: password hashing waits
+ * for the BCrypt pool and must not hold a database
+ * connection meanwhile. Each repository call runs in its
+ * own short transaction.
+ *
+ * Every login attempt emits a LoginEvent (JFR).
+ *
  * ============================================================
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
 
     private final UserMapper userMapper;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     private final JwtService jwtService;
 
@@ -53,6 +61,7 @@ public class AuthService {
      * Register New User
      * ============================================================
      */
+    @Timed("expenso.service")
     public LoginResponse signup(SignupRequest request) {
 
         String email = normalizeEmail(
@@ -62,7 +71,7 @@ public class AuthService {
         /*
          * Check Duplicate Email
          */
-        if (userRepository.existsByEmailIgnoreCase(email)) {
+        if (userRepository.existsByEmail(email)) {
 
             throw new DuplicateResourceException(
                     "Email is already registered."
@@ -82,7 +91,7 @@ public class AuthService {
                 .email(email)
 
                 .password(
-                        passwordEncoder.encode(
+                        passwordHashingService.encode(
                                 request.getPassword()
                         )
                 )
@@ -107,7 +116,9 @@ public class AuthService {
 
                 savedUser.getEmail(),
 
-                savedUser.getRole()
+                savedUser.getRole(),
+
+                savedUser.getTokenVersion()
 
         );
 
@@ -136,9 +147,13 @@ public class AuthService {
      * User Login
      * ============================================================
      */
-    @Transactional(readOnly = true)
+    @Timed("expenso.service")
     public LoginResponse login(LoginRequest request) {
 
+        LoginEvent event = new LoginEvent();
+
+        event.start();
+
         String email = normalizeEmail(
                 request.getEmail()
         );
@@ -148,31 +163,59 @@ public class AuthService {
          */
         User user = userRepository
 
-                .findByEmailIgnoreCase(email)
+                .findByEmail(email)
 
-                .orElseThrow(() ->
+                .orElse(null);
 
-                        new UnauthorizedException(
-                                "Invalid email or password."
-                        )
+        event.setLookupTime(event.lap());
 
-                );
+        if (user == null) {
+
+            event.setOutcome("UNKNOWN_EMAIL");
+
+            event.finish(null);
+
+            throw new UnauthorizedException(
+                    "Invalid email or password."
+            );
+
+        }
 
         /*
          * Check Account Status
          */
-        validateUser(user);
+        try {
+
+            validateUser(user);
+
+        } catch (UnauthorizedException exception) {
+
+            event.setOutcome("DISABLED");
+
+            event.finish(user.getId());
+
+            throw exception;
+
+        }
 
         /*
          * Verify Password
          */
-        if (!passwordEncoder.matches(
+        boolean passwordMatches = passwordHashingService.matches(
 
                 request.getPassword(),
 
                 user.getPassword()
 
-        )) {
+        );
+
+        event.setPasswordCheckTime(event.lap());
+
+        if (!passwordMatches) {
+
+            event.setOutcome("BAD_PASSWORD");
+
+            event.finish(user.getId());
 
             throw new UnauthorizedException(
                     "Invalid email or password."
@@ -180,6 +223,38 @@ public class AuthService {
 
         }
 
+        /*
+         * Rehash When The Configured Strength Went Up
+         */
+        if (passwordHashingService.upgradeEncoding(
+
+                user.getPassword()
+
+        )) {
+
+            /*
+             * Write only the hash: saving the loaded entity
+             * would merge its stale snapshot over a deactivation
+             * or token version bump committed meanwhile.
+             */
+            int updated = userRepository.updatePasswordHash(
+
+                    user.getId(),
+
+                    user.getPassword(),
+
+                    passwordHashingService.encode(
+                            request.getPassword()
+                    )
+
+            );
+
+            event.setRehashed(updated == 1);
+
+        }
+
+        event.setRehashTime(event.lap());
+
         /*
          * Generate JWT
          */
@@ -189,10 +264,18 @@ public class AuthService {
 
                 user.getEmail(),
 
-                user.getRole()
+                user.getRole(),
+
+                user.getTokenVersion()
 
         );
 
+        event.setTokenTime(event.lap());
+
+        event.setOutcome("SUCCESS");
+
+        event.finish(user.getId());
+
         /*
          * Convert Entity -> DTO
          */
@@ -234,8 +317,11 @@ public class AuthService {
      * ============================================================
      * Normalize Email
      * ============================================================
+     *
+     * The stored form of every email. Repository lookups are
+     * exact matches, so every caller must normalize first.
      */
-    private String normalizeEmail(String email) {
+    public static String normalizeEmail(String email) {
 
         return email
 
@@ -1,24 +1,32 @@
 package com.expenso.expense_tracker.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.expenso.expense_tracker.cache.UserPrincipalCache;
 import com.expenso.expense_tracker.dto.dashboard.CategoryDataDTO;
 import com.expenso.expense_tracker.dto.dashboard.DashboardResponse;
 import com.expenso.expense_tracker.dto.dashboard.MonthlyDataDTO;
 import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
 import com.expenso.expense_tracker.enums.TransactionType;
 import com.expenso.expense_tracker.exception.ResourceNotFoundException;
+import com.expenso.expense_tracker.jfr.DashboardEvent;
 import com.expenso.expense_tracker.mapper.TransactionMapper;
-import com.expenso.expense_tracker.model.Transaction;
 import com.expenso.expense_tracker.repository.TransactionRepository;
-import com.expenso.expense_tracker.repository.UserRepository;
+import com.expenso.expense_tracker.repository.UserMonthlyRollupRepository;
+import com.expenso.expense_tracker.repository.projection.MonthlyTypeTotal;
+
+import io.micrometer.core.annotation.Timed;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,14 +45,17 @@ import lombok.RequiredArgsConstructor;
  * • Monthly Overview
  * • Expense Breakdown
  *
+ * Each uncached dashboard emits a DashboardEvent (JFR).
+ *
  * ============================================================
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardService {
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final TransactionRepository transactionRepository;
+    private final UserMonthlyRollupRepository rollupRepository;
     private final TransactionMapper transactionMapper;
     /**
      * ============================================================
@@ -54,7 +65,7 @@ public class DashboardService {
     public DashboardResponse getDashboard(UUID userId) {
         return getDashboard(
                 userId,
-                YearMonth.now()
+                getCurrentMonth()
         );
     }
     /**
@@ -62,145 +73,151 @@ public class DashboardService {
      * Get Dashboard (Selected Month)
      * ============================================================
      */
+    @Timed("expenso.service")
     public DashboardResponse getDashboard(
             UUID userId,
             YearMonth selectedMonth
     ) {
-        userRepository
-                .findByIdAndActiveTrue(userId)
+        DashboardEvent event = new DashboardEvent();
+        event.start();
+        userPrincipalCache
+                .getActiveUser(userId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException(
                                 "User not found."
                         )
                 );
-        List<Transaction> allTransactions =
-                transactionRepository
-                        .findByUserIdOrderByDateDesc(userId);
-        List<Transaction> currentMonthTransactions =
-                getCurrentMonthTransactions(
-                        allTransactions,
-                        selectedMonth
+        event.setUserLookupTime(event.lap());
+        LocalDate monthStart = selectedMonth.atDay(1);
+        List<MonthlyTypeTotal> monthTypeTotals =
+                rollupRepository.sumByMonthAndType(
+                        userId,
+                        monthStart,
+                        monthStart
                 );
+        Map<TransactionType, BigDecimal> monthTotals =
+                sumByType(monthTypeTotals);
         BigDecimal monthlyIncome =
-                calculateMonthlyIncome(
-                        currentMonthTransactions
+                monthTotals.getOrDefault(
+                        TransactionType.INCOME,
+                        BigDecimal.ZERO
                 );
         BigDecimal monthlyExpense =
-                calculateMonthlyExpense(
-                        currentMonthTransactions
+                monthTotals.getOrDefault(
+                        TransactionType.EXPENSE,
+                        BigDecimal.ZERO
                 );
         BigDecimal monthlyBalance =
                 monthlyIncome.subtract(
                         monthlyExpense
                 );
+        event.setMonthTotalsTime(event.lap());
         List<TransactionDTO> recentTransactions =
                 transactionMapper.toTransactionDTOList(
-                        allTransactions.stream()
-                                .limit(5)
-                                .collect(Collectors.toList())
+                        transactionRepository
+                                .findTop5ByUserIdOrderByDateDescIdDesc(userId)
+                );
+        event.setRecentTransactionsTime(event.lap());
+        YearMonth currentMonth = getCurrentMonth();
+        List<MonthlyTypeTotal> overviewTotals =
+                rollupRepository.sumByMonthAndType(
+                        userId,
+                        currentMonth.minusMonths(5).atDay(1),
+                        currentMonth.atDay(1)
+                );
+        List<MonthlyDataDTO> monthlyOverview =
+                generateMonthlyOverview(
+                        currentMonth,
+                        overviewTotals
+                );
+        event.setMonthlyOverviewTime(event.lap());
+        List<CategoryDataDTO> expenseBreakdown =
+                generateExpenseBreakdown(
+                        userId,
+                        monthStart
                 );
+        event.setExpenseBreakdownTime(event.lap());
+        event.setMonth(selectedMonth.toString());
+        event.setRollupRows(
+                monthTypeTotals.size()
+                        + overviewTotals.size()
+                        + expenseBreakdown.size()
+        );
+        event.setRecentTransactions(recentTransactions.size());
+        event.finish(userId);
         return DashboardResponse.builder()
                 .monthlyIncome(monthlyIncome)
                 .monthlyExpense(monthlyExpense)
                 .monthlyBalance(monthlyBalance)
                 .recentTransactions(recentTransactions)
-                .monthlyOverview(
-                        generateMonthlyOverview(
-                                allTransactions
-                        )
-                )
-                .expenseBreakdown(
-                        generateExpenseBreakdown(
-                                currentMonthTransactions
-                        )
-                )
+                .monthlyOverview(monthlyOverview)
+                .expenseBreakdown(expenseBreakdown)
                 .build();
     }
     /**
      * ============================================================
-     * Current Month Transactions
-     * ============================================================
-     */
-    private List<Transaction> getCurrentMonthTransactions(
-            List<Transaction> transactions,
-            YearMonth month
-    ) {
-        return transactions.stream()
-                .filter(transaction ->
-                        YearMonth.from(
-                                transaction.getDate()
-                        ).equals(month)
-                )
-                .collect(Collectors.toList());
-    }
-    /**
-     * ============================================================
-     * Monthly Income
-     * ============================================================
-     */
-    private BigDecimal calculateMonthlyIncome(
-            List<Transaction> transactions
-    ) {
-        return transactions.stream()
-                .filter(transaction ->
-                        transaction.getType()
-                                == TransactionType.INCOME
-                )
-                .map(Transaction::getAmount)
-                .reduce(
-                        BigDecimal.ZERO,
-                        BigDecimal::add
-                );
-    }
-    /**
-     * ============================================================
-     * Monthly Expense
+     * Totals By Type
      * ============================================================
      */
-    private BigDecimal calculateMonthlyExpense(
-            List<Transaction> transactions
+    private Map<TransactionType, BigDecimal> sumByType(
+            List<MonthlyTypeTotal> totals
     ) {
-        return transactions.stream()
-                .filter(transaction ->
-                        transaction.getType()
-                                == TransactionType.EXPENSE
-                )
-                .map(Transaction::getAmount)
-                .reduce(
-                        BigDecimal.ZERO,
-                        BigDecimal::add
-                );
+        Map<TransactionType, BigDecimal> result =
+                new EnumMap<>(TransactionType.class);
+        for (MonthlyTypeTotal total : totals) {
+            result.merge(
+                    total.getType(),
+                    total.getTotal(),
+                    BigDecimal::add
+            );
+        }
+        return result;
     }
     /**
      * ============================================================
      * Monthly Overview
      * ============================================================
      *
-     * Generates the last 6 months' Income, Expense and Balance.
+     * Generates the last 6 months' Income, Expense and Balance
+     * from the monthly rollups (one row per month and type).
      */
     private List<MonthlyDataDTO> generateMonthlyOverview(
-            List<Transaction> transactions
+            YearMonth currentMonth,
+            List<MonthlyTypeTotal> overviewTotals
     ) {
-        List<MonthlyDataDTO> monthlyOverview = new java.util.ArrayList<>();
-        YearMonth currentMonth = YearMonth.now();
+        Map<YearMonth, Map<TransactionType, BigDecimal>> totalsByMonth =
+                new HashMap<>();
+        for (MonthlyTypeTotal total : overviewTotals) {
+            totalsByMonth
+                    .computeIfAbsent(
+                            YearMonth.of(
+                                    total.getPeriodYear(),
+                                    total.getPeriodMonth()
+                            ),
+                            month -> new EnumMap<>(TransactionType.class)
+                    )
+                    .merge(
+                            total.getType(),
+                            total.getTotal(),
+                            BigDecimal::add
+                    );
+        }
+        List<MonthlyDataDTO> monthlyOverview = new ArrayList<>();
         for (int i = 5; i >= 0; i--) {
             YearMonth month = currentMonth.minusMonths(i);
-            BigDecimal income = BigDecimal.ZERO;
-            BigDecimal expense = BigDecimal.ZERO;
-            for (Transaction transaction : transactions) {
-                if (!YearMonth.from(transaction.getDate()).equals(month)) {
-                    continue;
-                }
-                if (transaction.getType() == TransactionType.INCOME) {
-                    income = income.add(
-                            transaction.getAmount()
-                    );
-                } else {
-                    expense = expense.add(
-                            transaction.getAmount()
+            Map<TransactionType, BigDecimal> totals =
+                    totalsByMonth.getOrDefault(
+                            month,
+                            Map.of()
                     );
-                }
-            }
+            BigDecimal income = totals.getOrDefault(
+                    TransactionType.INCOME,
+                    BigDecimal.ZERO
+            );
+            BigDecimal expense = totals.getOrDefault(
+                    TransactionType.EXPENSE,
+                    BigDecimal.ZERO
+            );
             monthlyOverview.add(
                     MonthlyDataDTO.builder()
                             .month(
@@ -224,40 +241,27 @@ public class DashboardService {
      * Groups expenses by category for the selected month.
      */
     private List<CategoryDataDTO> generateExpenseBreakdown(
-            List<Transaction> transactions
+            UUID userId,
+            LocalDate monthStart
     ) {
-        return transactions.stream()
-                .filter(transaction ->
-                        transaction.getType()
-                                == TransactionType.EXPENSE
+        return rollupRepository
+                .sumByCategory(
+                        userId,
+                        TransactionType.EXPENSE,
+                        monthStart,
+                        monthStart
                 )
-                .collect(
-                        Collectors.groupingBy(
-                                Transaction::getCategory,
-                                Collectors.reducing(
-                                        BigDecimal.ZERO,
-                                        Transaction::getAmount,
-                                        BigDecimal::add
-                                )
-                        )
-                )
-                .entrySet()
                 .stream()
-                .map(entry ->
+                .map(total ->
                         CategoryDataDTO.builder()
                                 .category(
-                                        entry.getKey()
+                                        total.getCategory()
                                 )
                                 .amount(
-                                        entry.getValue()
+                                        total.getTotal()
                                 )
                                 .build()
                 )
-                .sorted((a, b) ->
-                        b.getAmount().compareTo(
-                                a.getAmount()
-                        )
-                )
                 .toList();
     }
     /**
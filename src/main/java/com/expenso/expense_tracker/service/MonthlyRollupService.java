@@ -0,0 +1,304 @@
+package com.expenso.expense_tracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expenso.expense_tracker.config.DatabaseFeatures;
+import com.expenso.expense_tracker.dto.rollup.RollupDriftDTO;
+import com.expenso.expense_tracker.dto.rollup.RollupVerificationResponse;
+import com.expenso.expense_tracker.model.UserMonthlyRollup;
+import com.expenso.expense_tracker.repository.TransactionRepository;
+import com.expenso.expense_tracker.repository.UserMonthlyRollupRepository;
+import com.expenso.expense_tracker.repository.projection.RollupBucket;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================
+ * Monthly Rollup Service
+ * ============================================================
+ *
+ * Handles
+ *
+ * • Incremental Rollup Updates
+ * • Rollup Verification
+ * • Rollup Rebuild
+ *
+ * ============================================================
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MonthlyRollupService {
+
+    private final UserMonthlyRollupRepository rollupRepository;
+
+    private final TransactionRepository transactionRepository;
+
+    private final DatabaseFeatures databaseFeatures;
+
+    /**
+     * ============================================================
+     * Apply Change Set
+     * ============================================================
+     *
+     * Joins the caller's transaction, so rollups commit or roll
+     * back together with the transaction rows they describe.
+     *
+     * PostgreSQL upserts each bucket. Elsewhere the bucket is
+     * updated and inserted when missing, which is not safe
+     * against concurrent first writes to the same bucket.
+     */
+    public void apply(RollupChangeSet changes) {
+
+        changes.forEach((key, delta) -> {
+
+            if (databaseFeatures.isPostgreSql()) {
+
+                rollupRepository.upsertDelta(
+                        key.userId(),
+                        key.period(),
+                        key.type().name(),
+                        key.category(),
+                        delta.amount(),
+                        delta.count()
+                );
+
+                return;
+
+            }
+
+            int updated = rollupRepository.applyDelta(
+                    key.userId(),
+                    key.period(),
+                    key.type(),
+                    key.category(),
+                    delta.amount(),
+                    delta.count()
+            );
+
+            if (updated == 0) {
+
+                rollupRepository.save(
+                        UserMonthlyRollup.builder()
+                                .userId(key.userId())
+                                .period(key.period())
+                                .type(key.type())
+                                .category(key.category())
+                                .totalAmount(delta.amount())
+                                .transactionCount(delta.count())
+                                .build()
+                );
+
+            }
+
+        });
+
+    }
+
+    /**
+     * ============================================================
+     * Verify Rollups
+     * ============================================================
+     *
+     * Recomputes the user's buckets from transactions and reports
+     * every bucket that differs. When repair is set, the user's
+     * rollups are rebuilt from scratch.
+     */
+    public RollupVerificationResponse verify(
+            UUID userId,
+            boolean repair
+    ) {
+
+        Map<RollupChangeSet.Key, UserMonthlyRollup> actual = new HashMap<>();
+
+        for (UserMonthlyRollup rollup : rollupRepository.findByUserId(userId)) {
+
+            actual.put(keyOf(rollup), rollup);
+
+        }
+
+        Map<RollupChangeSet.Key, RollupBucket> expected = new HashMap<>();
+
+        for (RollupBucket bucket : transactionRepository.summarizeByUser(userId)) {
+
+            expected.put(keyOf(userId, bucket), bucket);
+
+        }
+
+        Set<RollupChangeSet.Key> keys = new HashSet<>(actual.keySet());
+
+        keys.addAll(expected.keySet());
+
+        List<RollupDriftDTO> drifts = new ArrayList<>();
+
+        for (RollupChangeSet.Key key : keys) {
+
+            RollupBucket bucket = expected.get(key);
+
+            UserMonthlyRollup rollup = actual.get(key);
+
+            BigDecimal expectedAmount = bucket == null ? BigDecimal.ZERO : bucket.getTotal();
+
+            long expectedCount = bucket == null ? 0 : bucket.getTransactionCount();
+
+            BigDecimal actualAmount = rollup == null ? BigDecimal.ZERO : rollup.getTotalAmount();
+
+            long actualCount = rollup == null ? 0 : rollup.getTransactionCount();
+
+            if (expectedAmount.compareTo(actualAmount) != 0 || expectedCount != actualCount) {
+
+                drifts.add(
+                        RollupDriftDTO.builder()
+                                .month(YearMonth.from(key.period()).toString())
+                                .type(key.type())
+                                .category(key.category())
+                                .expectedAmount(expectedAmount)
+                                .actualAmount(actualAmount)
+                                .expectedCount(expectedCount)
+                                .actualCount(actualCount)
+                                .build()
+                );
+
+            }
+
+        }
+
+        boolean repaired = repair && !drifts.isEmpty();
+
+        if (repaired) {
+
+            rebuild(userId, expected.values());
+
+        }
+
+        return RollupVerificationResponse.builder()
+                .userId(userId)
+                .bucketsChecked(keys.size())
+                .drifts(drifts)
+                .repaired(repaired)
+                .build();
+
+    }
+
+    /**
+     * ============================================================
+     * Rebuild Rollups
+     * ============================================================
+     */
+    public void rebuild(UUID userId) {
+
+        rebuild(
+                userId,
+                transactionRepository.summarizeByUser(userId)
+        );
+
+    }
+
+    /**
+     * ============================================================
+     * Users With Transactions Or Rollups
+     * ============================================================
+     */
+    @Transactional(readOnly = true)
+    public Set<UUID> findUserIds() {
+
+        Set<UUID> userIds = new HashSet<>(
+                transactionRepository.findDistinctUserIds()
+        );
+
+        userIds.addAll(
+                rollupRepository.findDistinctUserIds()
+        );
+
+        return userIds;
+
+    }
+
+    /**
+     * ============================================================
+     * Has Rollups
+     * ============================================================
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+
+        return rollupRepository.count() == 0;
+
+    }
+
+    private void rebuild(
+            UUID userId,
+            Iterable<RollupBucket> buckets
+    ) {
+
+        rollupRepository.deleteByUserId(userId);
+
+        List<UserMonthlyRollup> rollups = new ArrayList<>();
+
+        for (RollupBucket bucket : buckets) {
+
+            rollups.add(
+                    UserMonthlyRollup.builder()
+                            .userId(userId)
+                            .period(periodOf(bucket))
+                            .type(bucket.getType())
+                            .category(bucket.getCategory())
+                            .totalAmount(bucket.getTotal())
+                            .transactionCount(bucket.getTransactionCount())
+                            .build()
+            );
+
+        }
+
+        rollupRepository.saveAll(rollups);
+
+    }
+
+    private RollupChangeSet.Key keyOf(UserMonthlyRollup rollup) {
+
+        return new RollupChangeSet.Key(
+                rollup.getUserId(),
+                rollup.getPeriod(),
+                rollup.getType(),
+                rollup.getCategory()
+        );
+
+    }
+
+    private RollupChangeSet.Key keyOf(
+            UUID userId,
+            RollupBucket bucket
+    ) {
+
+        return new RollupChangeSet.Key(
+                userId,
+                periodOf(bucket),
+                bucket.getType(),
+                bucket.getCategory()
+        );
+
+    }
+
+    private LocalDate periodOf(RollupBucket bucket) {
+
+        return LocalDate.of(
+                bucket.getPeriodYear(),
+                bucket.getPeriodMonth(),
+                1
+        );
+
+    }
+
+}
@@ -3,18 +3,33 @@ package com.expenso.expense_tracker.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.expenso.expense_tracker.dto.report.ReportResponse;
+import com.expenso.expense_tracker.dto.report.ReportSummaryDTO;
 import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
 import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.jfr.ReportEvent;
 import com.expenso.expense_tracker.mapper.TransactionMapper;
 import com.expenso.expense_tracker.model.Transaction;
 import com.expenso.expense_tracker.repository.TransactionRepository;
+import com.expenso.expense_tracker.repository.UserMonthlyRollupRepository;
+import com.expenso.expense_tracker.repository.projection.MonthlyTypeTotal;
+import com.expenso.expense_tracker.specification.TransactionSpecification;
+
+import io.micrometer.core.annotation.Timed;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +43,10 @@ import lombok.RequiredArgsConstructor;
  * • Monthly Report
  * • Date Range Report
  * • Summary Report
+ * • Streaming Report Export
+ *
+ * Monthly and custom reports emit a ReportEvent (JFR), and
+ * read only the columns of the requested transaction fields.
  *
  * ============================================================
  */
@@ -38,26 +57,73 @@ public class ReportService {
 
     private final TransactionRepository transactionRepository;
 
+    private final UserMonthlyRollupRepository rollupRepository;
+
     private final TransactionMapper transactionMapper;
 
+    private final EntityManager entityManager;
+
     /**
      * ============================================================
      * Monthly Report
      * ============================================================
      */
+    @Timed("expenso.service")
     public ReportResponse getMonthlyReport(
 
             UUID userId,
 
-            YearMonth month
+            YearMonth month,
+
+            Set<TransactionField> fields
 
     ) {
 
+        ReportEvent event = new ReportEvent();
+
+        event.start();
+
         LocalDate startDate = month.atDay(1);
 
         LocalDate endDate = month.atEndOfMonth();
 
-        return getReport(
+        /*
+         * Totals come from the monthly rollups,
+         * not from summing the rows below.
+         */
+        BigDecimal totalIncome = BigDecimal.ZERO;
+
+        BigDecimal totalExpense = BigDecimal.ZERO;
+
+        List<MonthlyTypeTotal> totals = rollupRepository.sumByMonthAndType(
+
+                userId,
+
+                startDate,
+
+                startDate
+
+        );
+
+        for (MonthlyTypeTotal total : totals) {
+
+            if (total.getType() == TransactionType.INCOME) {
+
+                totalIncome = totalIncome.add(total.getTotal());
+
+            } else {
+
+                totalExpense = totalExpense.add(total.getTotal());
+
+            }
+
+        }
+
+        event.setTotalsTime(event.lap());
+
+        List<TransactionDTO> transactions = findTransactions(
+
+                event,
 
                 userId,
 
@@ -65,10 +131,28 @@ public class ReportService {
 
                 endDate,
 
-                month.getMonth().name() + " " + month.getYear() + " Report"
+                fields
 
         );
 
+        ReportResponse report = buildReport(
+
+                month.getMonth().name() + " " + month.getYear() + " Report",
+
+                totalIncome,
+
+                totalExpense,
+
+                transactions
+
+        );
+
+        event.setRollupRows(totals.size());
+
+        finish(event, "monthly", userId, startDate, endDate, transactions);
+
+        return report;
+
     }
 
     /**
@@ -76,6 +160,7 @@ public class ReportService {
      * Custom Date Report
      * ============================================================
      */
+    @Timed("expenso.service")
     public ReportResponse getReport(
 
             UUID userId,
@@ -84,23 +169,39 @@ public class ReportService {
 
             LocalDate endDate,
 
-            String title
+            String title,
+
+            Set<TransactionField> fields
 
     ) {
 
-        List<Transaction> transactions =
+        ReportEvent event = new ReportEvent();
 
-                transactionRepository
+        event.start();
 
-                        .findByUserIdAndDateBetweenOrderByDateDesc(
+        /*
+         * Totals are summed from the rows,
+         * so they always need type and amount.
+         */
+        Set<TransactionField> selected = EnumSet.copyOf(fields);
 
-                                userId,
+        selected.add(TransactionField.TYPE);
 
-                                startDate,
+        selected.add(TransactionField.AMOUNT);
 
-                                endDate
+        List<TransactionDTO> transactions = findTransactions(
 
-                        );
+                event,
+
+                userId,
+
+                startDate,
+
+                endDate,
+
+                selected
+
+        );
 
         BigDecimal totalIncome = transactions.stream()
 
@@ -112,7 +213,7 @@ public class ReportService {
 
                 )
 
-                .map(Transaction::getAmount)
+                .map(TransactionDTO::getAmount)
 
                 .reduce(
 
@@ -132,7 +233,7 @@ public class ReportService {
 
                 )
 
-                .map(Transaction::getAmount)
+                .map(TransactionDTO::getAmount)
 
                 .reduce(
 
@@ -142,6 +243,184 @@ public class ReportService {
 
                 );
 
+        event.setTotalsTime(event.lap());
+
+        TransactionField.retainOnly(transactions, fields);
+
+        ReportResponse report = buildReport(
+
+                title,
+
+                totalIncome,
+
+                totalExpense,
+
+                transactions
+
+        );
+
+        finish(event, "custom", userId, startDate, endDate, transactions);
+
+        return report;
+
+    }
+
+    /**
+     * ============================================================
+     * Stream Report
+     * ============================================================
+     *
+     * Hands the range's transactions to the consumer one at a
+     * time from a database cursor and totals them on the way,
+     * so memory use does not depend on the size of the range.
+     *
+     * Returns the totals once the last row has been consumed.
+     */
+    public ReportSummaryDTO streamReport(
+
+            UUID userId,
+
+            LocalDate startDate,
+
+            LocalDate endDate,
+
+            String title,
+
+            Consumer<TransactionDTO> consumer
+
+    ) {
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+
+        BigDecimal totalExpense = BigDecimal.ZERO;
+
+        long transactionCount = 0;
+
+        try (Stream<Transaction> transactions =
+
+                transactionRepository.streamByUserIdAndDateBetween(
+
+                        userId,
+
+                        startDate,
+
+                        endDate
+
+                )) {
+
+            for (Transaction transaction : (Iterable<Transaction>) transactions::iterator) {
+
+                if (transaction.getType() == TransactionType.INCOME) {
+
+                    totalIncome = totalIncome.add(transaction.getAmount());
+
+                } else {
+
+                    totalExpense = totalExpense.add(transaction.getAmount());
+
+                }
+
+                transactionCount++;
+
+                consumer.accept(
+
+                        transactionMapper.toTransactionDTO(transaction)
+
+                );
+
+                entityManager.detach(transaction);
+
+            }
+
+        }
+
+        return ReportSummaryDTO.builder()
+
+                .title(title)
+
+                .startDate(startDate)
+
+                .endDate(endDate)
+
+                .totalIncome(totalIncome)
+
+                .totalExpense(totalExpense)
+
+                .balance(
+
+                        totalIncome.subtract(
+
+                                totalExpense
+
+                        )
+
+                )
+
+                .transactionCount(transactionCount)
+
+                .build();
+
+    }
+
+    /**
+     * ============================================================
+     * Find Report Transactions
+     * ============================================================
+     *
+     * Every field: entities mapped to DTOs.
+     * Fewer fields: a projection of just their columns,
+     * with no mapping step.
+     */
+    private List<TransactionDTO> findTransactions(
+
+            ReportEvent event,
+
+            UUID userId,
+
+            LocalDate startDate,
+
+            LocalDate endDate,
+
+            Set<TransactionField> fields
+
+    ) {
+
+        if (!TransactionField.isAll(fields)) {
+
+            List<TransactionDTO> transactions = transactionRepository.findFields(
+
+                    TransactionSpecification.belongsToUser(userId)
+                            .and(TransactionSpecification.fromDate(startDate))
+                            .and(TransactionSpecification.toDate(endDate)),
+
+                    fields,
+
+                    Sort.by(Sort.Direction.DESC, "date")
+
+            );
+
+            event.setQueryTime(event.lap());
+
+            return transactions;
+
+        }
+
+        List<Transaction> transactions =
+
+                transactionRepository
+
+                        .findByUserIdAndDateBetweenOrderByDateDesc(
+
+                                userId,
+
+                                startDate,
+
+                                endDate
+
+                        );
+
+        event.setQueryTime(event.lap());
+
         List<TransactionDTO> transactionDTOs =
 
                 transactionMapper.toTransactionDTOList(
@@ -150,6 +429,62 @@ public class ReportService {
 
                 );
 
+        event.setMappingTime(event.lap());
+
+        return transactionDTOs;
+
+    }
+
+    /**
+     * ============================================================
+     * Commit Report Event
+     * ============================================================
+     */
+    private void finish(
+
+            ReportEvent event,
+
+            String kind,
+
+            UUID userId,
+
+            LocalDate startDate,
+
+            LocalDate endDate,
+
+            List<TransactionDTO> transactions
+
+    ) {
+
+        event.setKind(kind);
+
+        event.setStartDate(startDate.toString());
+
+        event.setEndDate(endDate.toString());
+
+        event.setTransactionRows(transactions.size());
+
+        event.finish(userId);
+
+    }
+
+    /**
+     * ============================================================
+     * Build Report
+     * ============================================================
+     */
+    private ReportResponse buildReport(
+
+            String title,
+
+            BigDecimal totalIncome,
+
+            BigDecimal totalExpense,
+
+            List<TransactionDTO> transactions
+
+    ) {
+
         return ReportResponse.builder()
 
                 .title(title)
@@ -168,7 +503,7 @@ public class ReportService {
 
                 )
 
-                .transactions(transactionDTOs)
+                .transactions(transactions)
 
                 .build();
 
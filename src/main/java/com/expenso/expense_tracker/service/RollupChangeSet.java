@@ -0,0 +1,119 @@
+package com.expenso.expense_tracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.model.Transaction;
+
+/**
+ * ============================================================
+ * Rollup Change Set
+ * ============================================================
+ *
+ * Accumulates the rollup deltas of one unit of work.
+ *
+ * Values are captured when add / subtract is called, so the
+ * old state of an entity can be recorded before it is mutated.
+ * Deltas hitting the same bucket are merged, so a batch only
+ * touches every bucket once.
+ *
+ * ============================================================
+ */
+public class RollupChangeSet {
+
+    private final Map<Key, Delta> deltas = new LinkedHashMap<>();
+
+    /**
+     * Record a transaction being added.
+     */
+    public RollupChangeSet add(Transaction transaction) {
+
+        return merge(transaction, transaction.getAmount(), 1);
+
+    }
+
+    /**
+     * Record a transaction being removed.
+     */
+    public RollupChangeSet subtract(Transaction transaction) {
+
+        return merge(transaction, transaction.getAmount().negate(), -1);
+
+    }
+
+    public boolean isEmpty() {
+
+        return deltas.isEmpty();
+
+    }
+
+    /**
+     * Visit every non-zero delta.
+     */
+    void forEach(BiConsumer<Key, Delta> consumer) {
+
+        deltas.forEach((key, delta) -> {
+
+            if (delta.amount().signum() != 0 || delta.count() != 0) {
+
+                consumer.accept(key, delta);
+
+            }
+
+        });
+
+    }
+
+    private RollupChangeSet merge(
+            Transaction transaction,
+            BigDecimal amount,
+            long count
+    ) {
+
+        Key key = new Key(
+                transaction.getUserId(),
+                transaction.getDate().withDayOfMonth(1),
+                transaction.getType(),
+                transaction.getCategory()
+        );
+
+        deltas.merge(
+                key,
+                new Delta(amount, count),
+                Delta::plus
+        );
+
+        return this;
+
+    }
+
+    record Key(
+            UUID userId,
+            LocalDate period,
+            TransactionType type,
+            String category
+    ) {
+    }
+
+    record Delta(
+            BigDecimal amount,
+            long count
+    ) {
+
+        Delta plus(Delta other) {
+
+            return new Delta(
+                    amount.add(other.amount),
+                    count + other.count
+            );
+
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.expenso.expense_tracker.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.expenso.expense_tracker.config.DatabaseFeatures;
+import com.expenso.expense_tracker.dto.rollup.RollupVerificationResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ============================================================
+ * Rollup Maintenance Job
+ * ============================================================
+ *
+ * Handles
+ *
+ * • Initial Rollup Backfill
+ * • Scheduled Drift Verification
+ *
+ * Each user is verified in its own database transaction.
+ *
+ * ============================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollupMaintenanceJob {
+
+    /**
+     * PostgreSQL advisory lock key for the initial backfill.
+     */
+    private static final long BACKFILL_LOCK_KEY = 0x524f4c4c5550L;
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    private final DatabaseFeatures databaseFeatures;
+
+    private final DataSource dataSource;
+
+    @Value("${app.rollup.repair-on-verify:false}")
+    private boolean repairOnVerify;
+
+    /**
+     * ============================================================
+     * Initial Backfill
+     * ============================================================
+     *
+     * Populates the rollup table the first time the application
+     * starts against existing transaction data.
+     *
+     * On PostgreSQL only the instance holding the backfill
+     * advisory lock runs it; instances starting at the same time
+     * skip it instead of rebuilding the same users again. The
+     * lock is taken before the emptiness check, so an instance
+     * that gets it after a finished backfill sees rollups and
+     * does nothing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() throws SQLException {
+
+        if (!databaseFeatures.isPostgreSql()) {
+
+            backfill();
+
+            return;
+
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+
+            if (!advisoryLock(connection, "select pg_try_advisory_lock(?)")) {
+
+                log.info("Rollup backfill is running on another instance; skipping.");
+
+                return;
+
+            }
+
+            try {
+
+                backfill();
+
+            } finally {
+
+                advisoryLock(connection, "select pg_advisory_unlock(?)");
+
+            }
+
+        }
+
+    }
+
+    private void backfill() {
+
+        if (!monthlyRollupService.isEmpty()) {
+
+            return;
+
+        }
+
+        Set<UUID> userIds = monthlyRollupService.findUserIds();
+
+        for (UUID userId : userIds) {
+
+            monthlyRollupService.rebuild(userId);
+
+        }
+
+        if (!userIds.isEmpty()) {
+
+            log.info("Backfilled monthly rollups for {} users.", userIds.size());
+
+        }
+
+    }
+
+    private boolean advisoryLock(
+            Connection connection,
+            String sql
+    ) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            statement.setLong(1, BACKFILL_LOCK_KEY);
+
+            try (ResultSet result = statement.executeQuery()) {
+
+                return result.next() && result.getBoolean(1);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * ============================================================
+     * Scheduled Verification
+     * ============================================================
+     *
+     * Disabled unless app.rollup.verify-cron is set.
+     */
+    @Scheduled(cron = "${app.rollup.verify-cron:-}")
+    public void scheduledVerify() {
+
+        List<RollupVerificationResponse> drifted = verifyAll(repairOnVerify);
+
+        log.info("Rollup verification finished. Users with drift: {}.", drifted.size());
+
+    }
+
+    /**
+     * ============================================================
+     * Verify All Users
+     * ============================================================
+     *
+     * Returns only users whose rollups drifted.
+     */
+    public List<RollupVerificationResponse> verifyAll(boolean repair) {
+
+        List<RollupVerificationResponse> drifted = new ArrayList<>();
+
+        for (UUID userId : monthlyRollupService.findUserIds()) {
+
+            RollupVerificationResponse result = monthlyRollupService.verify(
+                    userId,
+                    repair
+            );
+
+            if (!result.getDrifts().isEmpty()) {
+
+                log.warn(
+                        "Rollup drift for user {}: {} buckets (repaired: {}).",
+                        userId,
+                        result.getDrifts().size(),
+                        result.isRepaired()
+                );
+
+                drifted.add(result);
+
+            }
+
+        }
+
+        return drifted;
+
+    }
+
+}
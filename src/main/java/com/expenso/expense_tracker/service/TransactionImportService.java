@@ -0,0 +1,538 @@
+package com.expenso.expense_tracker.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.expenso.expense_tracker.csv.CsvReader;
+import com.expenso.expense_tracker.dto.transaction.ImportResultResponse;
+import com.expenso.expense_tracker.dto.transaction.ImportRowErrorDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionRequest;
+import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.exception.BadRequestException;
+import com.expenso.expense_tracker.exception.ServiceUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ============================================================
+ * Transaction Import Service
+ * ============================================================
+ *
+ * Imports a CSV bank export in constant memory.
+ *
+ * The request thread parses and validates rows and hands
+ * fixed-size batches to a worker through a bounded queue. The
+ * worker saves each batch in its own database transaction. When
+ * the queue is full the parser blocks, so a slow database slows
+ * the upload down instead of filling the heap.
+ *
+ * Expected header (any order, case-insensitive):
+ *
+ * date,type,amount,category,notes
+ *
+ * notes is optional. Dates use yyyy-MM-dd.
+ *
+ * ============================================================
+ */
+@Slf4j
+@Service
+public class TransactionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final long ENQUEUE_TIMEOUT_SECONDS = 1;
+
+    private static final String[] REQUIRED_COLUMNS = {
+            "date",
+            "type",
+            "amount",
+            "category"
+    };
+
+    private final TransactionService transactionService;
+
+    private final ThreadPoolTaskExecutor importExecutor;
+
+    private final int batchSize;
+
+    private final int queueCapacity;
+
+    private final long maxRows;
+
+    public TransactionImportService(
+            TransactionService transactionService,
+            @Qualifier("importExecutor") ThreadPoolTaskExecutor importExecutor,
+            @Value("${app.import.batch-size:500}") int batchSize,
+            @Value("${app.import.queue-capacity:4}") int queueCapacity,
+            @Value("${app.import.max-rows:100000}") long maxRows
+    ) {
+
+        this.transactionService = transactionService;
+
+        this.importExecutor = importExecutor;
+
+        this.batchSize = batchSize;
+
+        this.queueCapacity = queueCapacity;
+
+        this.maxRows = maxRows;
+
+    }
+
+    /**
+     * ============================================================
+     * Import CSV
+     * ============================================================
+     *
+     * Rows that fail validation or cannot be saved are reported
+     * with their line number; every other row is imported. A
+     * malformed file stops the import at the bad line, keeping
+     * the rows saved before it.
+     */
+    public ImportResultResponse importCsv(
+            UUID userId,
+            InputStream input
+    ) {
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8)
+        );
+
+        CsvReader csv = new CsvReader(reader);
+
+        ColumnLayout columns = readHeader(csv);
+
+        ImportErrors errors = new ImportErrors();
+
+        BlockingQueue<List<ImportRow>> queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Future<Long> writer;
+
+        try {
+
+            writer = importExecutor.submit(
+                    () -> persistBatches(userId, queue, errors)
+            );
+
+        } catch (TaskRejectedException exception) {
+
+            throw new ServiceUnavailableException(
+                    "Too many imports are running. Please try again later."
+            );
+
+        }
+
+        long totalRows = 0;
+
+        boolean finished = false;
+
+        String stopReason = null;
+
+        try {
+
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+
+            while (true) {
+
+                List<String> record;
+
+                try {
+
+                    record = csv.next();
+
+                } catch (IOException exception) {
+
+                    stopReason = "Import stopped at line " + csv.getRecordLine() + ": " + exception.getMessage();
+
+                    break;
+
+                }
+
+                if (record == null) {
+
+                    break;
+
+                }
+
+                if (totalRows == maxRows) {
+
+                    stopReason = "Import stopped at line " + csv.getRecordLine()
+                            + ": files are limited to " + maxRows + " rows.";
+
+                    break;
+
+                }
+
+                totalRows++;
+
+                ImportRow row = toImportRow(csv.getRecordLine(), record, columns, errors);
+
+                if (row == null) {
+
+                    continue;
+
+                }
+
+                batch.add(row);
+
+                if (batch.size() == batchSize) {
+
+                    enqueue(queue, batch, writer);
+
+                    batch = new ArrayList<>(batchSize);
+
+                }
+
+            }
+
+            if (!batch.isEmpty()) {
+
+                enqueue(queue, batch, writer);
+
+            }
+
+            enqueue(queue, List.of(), writer);
+
+            long importedRows = writer.get();
+
+            finished = true;
+
+            return ImportResultResponse.builder()
+                    .totalRows(totalRows)
+                    .importedRows(importedRows)
+                    .failedRows(errors.count())
+                    .errorsTruncated(errors.count() > MAX_REPORTED_ERRORS)
+                    .errors(errors.reported())
+                    .stopReason(stopReason)
+                    .build();
+
+        } catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Import was interrupted.", exception);
+
+        } catch (ExecutionException exception) {
+
+            throw new IllegalStateException("Import failed.", exception.getCause());
+
+        } finally {
+
+            if (!finished) {
+
+                writer.cancel(true);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Worker loop. An empty batch marks the end of input.
+     *
+     * A batch that cannot be saved is reported row by row and
+     * the import carries on with the next one.
+     */
+    private long persistBatches(
+            UUID userId,
+            BlockingQueue<List<ImportRow>> queue,
+            ImportErrors errors
+    ) throws InterruptedException {
+
+        long importedRows = 0;
+
+        while (true) {
+
+            List<ImportRow> batch = queue.take();
+
+            if (batch.isEmpty()) {
+
+                return importedRows;
+
+            }
+
+            List<TransactionRequest> requests = new ArrayList<>(batch.size());
+
+            for (ImportRow row : batch) {
+
+                requests.add(row.request());
+
+            }
+
+            try {
+
+                importedRows += transactionService
+                        .createTransactions(userId, requests)
+                        .getCreatedCount();
+
+            } catch (RuntimeException exception) {
+
+                log.warn("Import batch of {} rows for user {} failed", batch.size(), userId, exception);
+
+                for (ImportRow row : batch) {
+
+                    errors.add(row.line(), "Row could not be saved.");
+
+                }
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Waits for queue space, giving up if the worker has stopped.
+     */
+    private void enqueue(
+            BlockingQueue<List<ImportRow>> queue,
+            List<ImportRow> batch,
+            Future<Long> writer
+    ) throws InterruptedException, ExecutionException {
+
+        while (!queue.offer(batch, ENQUEUE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+
+            if (writer.isDone()) {
+
+                writer.get();
+
+                throw new IllegalStateException("Import worker stopped early.");
+
+            }
+
+        }
+
+    }
+
+    private ColumnLayout readHeader(CsvReader csv) {
+
+        List<String> header;
+
+        try {
+
+            header = csv.next();
+
+        } catch (IOException exception) {
+
+            throw new BadRequestException("Invalid CSV header: " + exception.getMessage());
+
+        }
+
+        if (header == null) {
+
+            throw new BadRequestException("CSV file is empty.");
+
+        }
+
+        List<String> names = new ArrayList<>(header.size());
+
+        for (String name : header) {
+
+            names.add(
+                    name.replace("\uFEFF", "")
+                            .strip()
+                            .toLowerCase(Locale.ROOT)
+            );
+
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+
+            if (!names.contains(column)) {
+
+                throw new BadRequestException(
+                        "CSV header must contain the columns: date, type, amount, category."
+                );
+
+            }
+
+        }
+
+        return new ColumnLayout(
+                names.indexOf("date"),
+                names.indexOf("type"),
+                names.indexOf("amount"),
+                names.indexOf("category"),
+                names.indexOf("notes")
+        );
+
+    }
+
+    /**
+     * Maps and validates one record, or reports it and returns null.
+     */
+    private ImportRow toImportRow(
+            long line,
+            List<String> record,
+            ColumnLayout columns,
+            ImportErrors errors
+    ) {
+
+        LocalDate date;
+
+        try {
+
+            date = LocalDate.parse(field(record, columns.date()));
+
+        } catch (DateTimeParseException exception) {
+
+            errors.add(line, "Invalid date. Expected yyyy-MM-dd.");
+
+            return null;
+
+        }
+
+        TransactionType type;
+
+        try {
+
+            type = TransactionType.valueOf(
+                    field(record, columns.type()).toUpperCase(Locale.ROOT)
+            );
+
+        } catch (IllegalArgumentException exception) {
+
+            errors.add(line, "Invalid transaction type. Expected INCOME or EXPENSE.");
+
+            return null;
+
+        }
+
+        BigDecimal amount;
+
+        try {
+
+            amount = new BigDecimal(field(record, columns.amount()));
+
+        } catch (NumberFormatException exception) {
+
+            errors.add(line, "Invalid amount.");
+
+            return null;
+
+        }
+
+        TransactionRequest request = TransactionRequest.builder()
+                .date(date)
+                .type(type)
+                .amount(amount)
+                .category(field(record, columns.category()))
+                .notes(field(record, columns.notes()))
+                .build();
+
+        String error = transactionService.findValidationError(request);
+
+        if (error != null) {
+
+            errors.add(line, error);
+
+            return null;
+
+        }
+
+        return new ImportRow(line, request);
+
+    }
+
+    private String field(
+            List<String> record,
+            int index
+    ) {
+
+        if (index < 0 || index >= record.size()) {
+
+            return "";
+
+        }
+
+        return record.get(index).strip();
+
+    }
+
+    private record ColumnLayout(
+            int date,
+            int type,
+            int amount,
+            int category,
+            int notes
+    ) {
+    }
+
+    private record ImportRow(
+            long line,
+            TransactionRequest request
+    ) {
+    }
+
+    /**
+     * Shared by the parser and the worker. Keeps a full count but
+     * only the first MAX_REPORTED_ERRORS messages.
+     */
+    private static class ImportErrors {
+
+        private final List<ImportRowErrorDTO> reported = new ArrayList<>();
+
+        private long count;
+
+        synchronized void add(
+                long line,
+                String message
+        ) {
+
+            count++;
+
+            if (reported.size() < MAX_REPORTED_ERRORS) {
+
+                reported.add(
+                        ImportRowErrorDTO.builder()
+                                .line(line)
+                                .message(message)
+                                .build()
+                );
+
+            }
+
+        }
+
+        synchronized long count() {
+
+            return count;
+
+        }
+
+        synchronized List<ImportRowErrorDTO> reported() {
+
+            List<ImportRowErrorDTO> sorted = new ArrayList<>(reported);
+
+            sorted.sort(Comparator.comparingLong(ImportRowErrorDTO::getLine));
+
+            return sorted;
+
+        }
+
+    }
+
+}
@@ -1,26 +1,53 @@
 package com.expenso.expense_tracker.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.expenso.expense_tracker.config.DatabaseFeatures;
+import com.expenso.expense_tracker.dto.transaction.BatchItemErrorDTO;
+import com.expenso.expense_tracker.dto.transaction.BatchTransactionResponse;
 import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.dto.transaction.TransactionField;
 import com.expenso.expense_tracker.dto.transaction.TransactionRequest;
 import com.expenso.expense_tracker.dto.transaction.TransactionResponse;
+import com.expenso.expense_tracker.enums.SearchMode;
 import com.expenso.expense_tracker.enums.TransactionType;
+import com.expenso.expense_tracker.event.TransactionsChangedEvent;
 import com.expenso.expense_tracker.exception.BadRequestException;
+import com.expenso.expense_tracker.exception.BatchValidationException;
 import com.expenso.expense_tracker.exception.ResourceNotFoundException;
+import com.expenso.expense_tracker.jfr.TransactionPageEvent;
 import com.expenso.expense_tracker.mapper.TransactionMapper;
 import com.expenso.expense_tracker.model.Transaction;
 import com.expenso.expense_tracker.repository.TransactionRepository;
+import com.expenso.expense_tracker.repository.projection.TransactionChange;
+import com.expenso.expense_tracker.specification.TransactionCursor;
 import com.expenso.expense_tracker.specification.TransactionSpecification;
 
+import io.micrometer.core.annotation.Timed;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -28,35 +55,125 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class TransactionService {
 
+        private static final int BATCH_SIZE = 50;
+
         private final TransactionRepository transactionRepository;
 
         private final TransactionMapper transactionMapper;
 
+        private final MonthlyRollupService monthlyRollupService;
+
+        private final ApplicationEventPublisher eventPublisher;
+
+        private final EntityManager entityManager;
+
+        private final DatabaseFeatures databaseFeatures;
+
         public TransactionResponse createTransaction(
                         UUID userId,
                         TransactionRequest request) {
                 validateTransactionRequest(request);
 
-                Transaction transaction = Transaction.builder()
-                                .userId(userId)
-                                .type(request.getType())
-                                .amount(request.getAmount())
-                                .category(
-                                                normalizeCategory(
-                                                                request.getCategory()))
-                                .date(request.getDate())
-                                .notes(
-                                                normalizeNotes(
-                                                                request.getNotes()))
-                                .build();
+                Transaction transaction = toTransaction(
+                                userId,
+                                request);
 
                 Transaction savedTransaction = transactionRepository.save(
                                 transaction);
 
+                monthlyRollupService.apply(
+                                new RollupChangeSet()
+                                                .add(savedTransaction));
+
+                eventPublisher.publishEvent(
+                                new TransactionsChangedEvent(userId));
+
                 return transactionMapper.toTransactionResponse(
                                 savedTransaction);
         }
 
+        /**
+         * Creates many transactions in one database transaction.
+         *
+         * All items are validated first and reported together.
+         * Rows are inserted in JDBC batches of BATCH_SIZE, with the
+         * persistence context cleared between batches, and rollups
+         * are updated once per affected bucket.
+         */
+        public BatchTransactionResponse createTransactions(
+                        UUID userId,
+                        List<TransactionRequest> requests) {
+                if (requests == null ||
+                                requests.isEmpty()) {
+                        throw new BadRequestException(
+                                        "At least one transaction is required.");
+                }
+
+                List<BatchItemErrorDTO> errors = new ArrayList<>();
+
+                for (int index = 0; index < requests.size(); index++) {
+                        String error = findValidationError(
+                                        requests.get(index));
+
+                        if (error != null) {
+                                errors.add(
+                                                BatchItemErrorDTO.builder()
+                                                                .index(index)
+                                                                .message(error)
+                                                                .build());
+                        }
+                }
+
+                if (!errors.isEmpty()) {
+                        throw new BatchValidationException(
+                                        errors);
+                }
+
+                List<Long> ids = new ArrayList<>(
+                                requests.size());
+
+                RollupChangeSet rollupChanges = new RollupChangeSet();
+
+                for (int start = 0; start < requests.size(); start += BATCH_SIZE) {
+                        List<Transaction> batch = new ArrayList<>();
+
+                        for (TransactionRequest request : requests.subList(
+                                        start,
+                                        Math.min(
+                                                        start + BATCH_SIZE,
+                                                        requests.size()))) {
+                                batch.add(
+                                                toTransaction(
+                                                                userId,
+                                                                request));
+                        }
+
+                        for (Transaction saved : transactionRepository.saveAll(
+                                        batch)) {
+                                ids.add(
+                                                saved.getId());
+
+                                rollupChanges.add(
+                                                saved);
+                        }
+
+                        entityManager.flush();
+
+                        entityManager.clear();
+                }
+
+                monthlyRollupService.apply(
+                                rollupChanges);
+
+                eventPublisher.publishEvent(
+                                new TransactionsChangedEvent(userId));
+
+                return BatchTransactionResponse.builder()
+                                .createdCount(ids.size())
+                                .ids(ids)
+                                .build();
+        }
+
         @Transactional(readOnly = true)
         public TransactionResponse getTransactionById(
                         UUID userId,
@@ -80,120 +197,354 @@ public class TransactionService {
                                 transactions);
         }
 
+        /**
+         * Offset-paginated list.
+         *
+         * With countTotal the result is a Page carrying the total;
+         * without it a Slice, fetched as size + 1 rows with no
+         * count query.
+         *
+         * Unless every field is requested, only the columns of
+         * the requested fields are read (see
+         * TransactionProjectionRepository).
+         */
         @Transactional(readOnly = true)
-        public Page<TransactionDTO> getTransactions(
+        @Timed("expenso.service")
+        public Slice<TransactionDTO> getTransactions(
                         UUID userId,
                         String search,
+                        SearchMode searchMode,
                         TransactionType type,
                         String category,
                         LocalDate fromDate,
                         LocalDate toDate,
-                        Pageable pageable) {
-                if (fromDate != null &&
-                                toDate != null &&
-                                fromDate.isAfter(toDate)) {
-                        throw new BadRequestException(
-                                        "From date cannot be after to date.");
+                        Pageable pageable,
+                        boolean countTotal,
+                        Set<TransactionField> fields) {
+                TransactionPageEvent event = new TransactionPageEvent();
+
+                event.start();
+
+                Specification<Transaction> specification = buildSpecification(
+                                userId,
+                                search,
+                                searchMode,
+                                type,
+                                category,
+                                fromDate,
+                                toDate);
+
+                if (isRankedSearch(
+                                search,
+                                searchMode)) {
+                        /*
+                         * Relevance ordering comes from the specification.
+                         */
+                        pageable = PageRequest.of(
+                                        pageable.getPageNumber(),
+                                        pageable.getPageSize());
                 }
 
-                Specification<Transaction> specification = Specification.where(
-                                TransactionSpecification
-                                                .belongsToUser(userId));
+                Pageable pageRequest = pageable;
+
+                Slice<TransactionDTO> page;
+
+                if (TransactionField.isAll(fields)) {
+                        Slice<Transaction> transactionPage = countTotal
+                                        ? transactionRepository.findAll(
+                                                        specification,
+                                                        pageRequest)
+                                        : transactionRepository.findBy(
+                                                        specification,
+                                                        query -> query.slice(
+                                                                        pageRequest));
+
+                        event.setQueryTime(event.lap());
+
+                        page = transactionPage.map(
+                                        transactionMapper::toTransactionDTO);
+
+                        event.setMappingTime(event.lap());
+                } else if (countTotal) {
+                        page = PageableExecutionUtils.getPage(
+                                        transactionRepository.findFields(
+                                                        specification,
+                                                        fields,
+                                                        pageRequest.getSort(),
+                                                        pageRequest.getOffset(),
+                                                        pageRequest.getPageSize()),
+                                        pageRequest,
+                                        () -> transactionRepository.count(
+                                                        specification));
+
+                        event.setQueryTime(event.lap());
+                } else {
+                        page = toSlice(
+                                        transactionRepository.findFields(
+                                                        specification,
+                                                        fields,
+                                                        pageRequest.getSort(),
+                                                        pageRequest.getOffset(),
+                                                        pageRequest.getPageSize() + 1),
+                                        pageRequest);
+
+                        event.setQueryTime(event.lap());
+                }
 
-                if (search != null &&
+                event.setSearchMode(
+                                search == null || search.isBlank()
+                                                ? null
+                                                : String.valueOf(searchMode));
+
+                event.setFiltered(
+                                type != null
+                                                || category != null
+                                                || fromDate != null
+                                                || toDate != null);
+
+                event.setPage(pageable.getPageNumber());
+
+                event.setPageSize(pageable.getPageSize());
+
+                event.setRows(page.getNumberOfElements());
+
+                event.setTotalRows(
+                                page instanceof Page<TransactionDTO> counted
+                                                ? counted.getTotalElements()
+                                                : -1);
+
+                event.finish(userId);
+
+                return page;
+        }
+
+        /**
+         * Keyset variant of getTransactions.
+         *
+         * Seeks past the cursor instead of using OFFSET and
+         * fetches size + 1 rows instead of running a count query,
+         * so every page costs the same however deep it is.
+         *
+         * A sparse read also selects the cursor keys, which the
+         * caller needs for the next cursor; they can be cleared
+         * with TransactionField.retainOnly afterwards.
+         */
+        @Transactional(readOnly = true)
+        public Slice<TransactionDTO> getTransactionsAfter(
+                        UUID userId,
+                        String search,
+                        SearchMode searchMode,
+                        TransactionType type,
+                        String category,
+                        LocalDate fromDate,
+                        LocalDate toDate,
+                        TransactionCursor cursor,
+                        Sort sort,
+                        int size,
+                        Set<TransactionField> fields) {
+                if (searchMode == SearchMode.RANKED &&
+                                search != null &&
                                 !search.isBlank()) {
-                        specification = specification.and(
-                                        TransactionSpecification
-                                                        .containsSearch(search));
+                        throw new BadRequestException(
+                                        "Ranked search is not supported with cursor pagination.");
                 }
 
-                if (type != null) {
-                        specification = specification.and(
-                                        TransactionSpecification
-                                                        .hasType(type));
-                }
+                Specification<Transaction> specification = buildSpecification(
+                                userId,
+                                search,
+                                searchMode,
+                                type,
+                                category,
+                                fromDate,
+                                toDate);
 
-                if (category != null &&
-                                !category.isBlank()) {
+                if (cursor != null) {
                         specification = specification.and(
                                         TransactionSpecification
-                                                        .hasCategory(category));
+                                                        .seekAfter(
+                                                                        sort,
+                                                                        cursor));
                 }
 
-                if (fromDate != null) {
-                        specification = specification.and(
-                                        TransactionSpecification
-                                                        .fromDate(fromDate));
-                }
+                Pageable pageRequest = PageRequest.of(
+                                0,
+                                size,
+                                sort);
 
-                if (toDate != null) {
-                        specification = specification.and(
-                                        TransactionSpecification
-                                                        .toDate(toDate));
+                if (TransactionField.isAll(fields)) {
+                        Slice<Transaction> transactionSlice = transactionRepository.findBy(
+                                        specification,
+                                        query -> query.slice(
+                                                        pageRequest));
+
+                        return transactionSlice.map(
+                                        transactionMapper::toTransactionDTO);
                 }
 
-                Page<Transaction> transactionPage = transactionRepository.findAll(
-                                specification,
-                                pageable);
+                /*
+                 * The cursor encodes date, amount and id whatever the sort.
+                 */
+                Set<TransactionField> selected = EnumSet.copyOf(fields);
+
+                selected.addAll(
+                                EnumSet.of(
+                                                TransactionField.ID,
+                                                TransactionField.DATE,
+                                                TransactionField.AMOUNT));
+
+                return toSlice(
+                                transactionRepository.findFields(
+                                                specification,
+                                                selected,
+                                                sort,
+                                                0,
+                                                size + 1),
+                                pageRequest);
+        }
 
-                return transactionPage.map(
-                                transactionMapper::toTransactionDTO);
+        /**
+         * Slice from a size + 1 row read: the extra row only
+         * tells whether there is a next page.
+         */
+        private Slice<TransactionDTO> toSlice(
+                        List<TransactionDTO> rows,
+                        Pageable pageable) {
+                boolean hasNext = rows.size() > pageable.getPageSize();
+
+                return new SliceImpl<>(
+                                hasNext
+                                                ? rows.subList(
+                                                                0,
+                                                                pageable.getPageSize())
+                                                : rows,
+                                pageable,
+                                hasNext);
         }
 
+        /**
+         * Updates in a single UPDATE ... RETURNING on PostgreSQL;
+         * elsewhere reads an unmanaged snapshot and runs a bulk
+         * JPQL update. Neither path loads or dirty-checks the
+         * entity, and no matching row means 404.
+         */
         public TransactionResponse updateTransaction(
                         Long transactionId,
                         TransactionRequest request,
                         UUID userId) {
                 validateTransactionRequest(request);
 
-                Transaction transaction = getTransactionEntity(
-                                transactionId,
-                                userId);
-
-                transaction.setType(
-                                request.getType());
-
-                transaction.setAmount(
-                                request.getAmount());
-
-                transaction.setCategory(
-                                normalizeCategory(
-                                                request.getCategory()));
-
-                transaction.setDate(
-                                request.getDate());
+                String category = normalizeCategory(
+                                request.getCategory());
+
+                String notes = normalizeNotes(
+                                request.getNotes());
+
+                LocalDateTime updatedAt = LocalDateTime.now();
+
+                TransactionChange change;
+
+                if (databaseFeatures.isPostgreSql()) {
+                        change = transactionRepository
+                                        .updateReturning(
+                                                        transactionId,
+                                                        userId,
+                                                        request.getType(),
+                                                        request.getAmount(),
+                                                        category,
+                                                        request.getDate(),
+                                                        notes,
+                                                        updatedAt)
+                                        .orElseThrow(
+                                                        this::transactionNotFound);
+                } else {
+                        Transaction before = getTransactionSnapshot(
+                                        transactionId,
+                                        userId);
+
+                        int updated = transactionRepository
+                                        .updateByIdAndUserId(
+                                                        transactionId,
+                                                        userId,
+                                                        request.getType(),
+                                                        request.getAmount(),
+                                                        category,
+                                                        request.getDate(),
+                                                        notes,
+                                                        updatedAt);
+
+                        if (updated == 0) {
+                                throw transactionNotFound();
+                        }
+
+                        change = new TransactionChange(
+                                        before,
+                                        Transaction.builder()
+                                                        .id(transactionId)
+                                                        .userId(userId)
+                                                        .type(request.getType())
+                                                        .amount(request.getAmount())
+                                                        .category(category)
+                                                        .date(request.getDate())
+                                                        .notes(notes)
+                                                        .createdAt(before.getCreatedAt())
+                                                        .updatedAt(updatedAt)
+                                                        .build());
+                }
 
-                transaction.setNotes(
-                                normalizeNotes(
-                                                request.getNotes()));
+                monthlyRollupService.apply(
+                                new RollupChangeSet()
+                                                .subtract(change.before())
+                                                .add(change.after()));
 
-                Transaction updatedTransaction = transactionRepository.save(
-                                transaction);
+                eventPublisher.publishEvent(
+                                new TransactionsChangedEvent(userId));
 
                 return transactionMapper.toTransactionResponse(
-                                updatedTransaction);
+                                change.after());
         }
 
+        /**
+         * Deletes in a single DELETE ... RETURNING on PostgreSQL;
+         * elsewhere reads an unmanaged snapshot and runs a bulk
+         * JPQL delete.
+         */
         public void deleteTransaction(
                         Long transactionId,
                         UUID userId) {
-                Transaction transaction = getTransactionEntity(
-                                transactionId,
-                                userId);
+                Transaction deleted;
+
+                if (databaseFeatures.isPostgreSql()) {
+                        deleted = transactionRepository
+                                        .deleteReturning(
+                                                        transactionId,
+                                                        userId)
+                                        .orElseThrow(
+                                                        this::transactionNotFound);
+                } else {
+                        deleted = getTransactionSnapshot(
+                                        transactionId,
+                                        userId);
+
+                        if (transactionRepository.deleteByIdAndUserId(
+                                        transactionId,
+                                        userId) == 0) {
+                                throw transactionNotFound();
+                        }
+                }
 
-                transactionRepository.delete(
-                                transaction);
+                monthlyRollupService.apply(
+                                new RollupChangeSet()
+                                                .subtract(deleted));
+
+                eventPublisher.publishEvent(
+                                new TransactionsChangedEvent(userId));
         }
 
         @Transactional(readOnly = true)
         public List<TransactionDTO> getTransactionsByCategory(
                         UUID userId,
                         String category) {
-                if (category == null ||
-                                category.isBlank()) {
-                        throw new BadRequestException(
-                                        "Category is required.");
-                }
+                requireCategory(category);
 
                 List<Transaction> transactions = transactionRepository
                                 .findByUserIdAndCategoryIgnoreCase(
@@ -208,10 +559,7 @@ public class TransactionService {
         public List<TransactionDTO> getTransactionsByType(
                         UUID userId,
                         TransactionType type) {
-                if (type == null) {
-                        throw new BadRequestException(
-                                        "Transaction type is required.");
-                }
+                requireType(type);
 
                 List<Transaction> transactions = transactionRepository
                                 .findByUserIdAndType(
@@ -227,16 +575,9 @@ public class TransactionService {
                         UUID userId,
                         LocalDate startDate,
                         LocalDate endDate) {
-                if (startDate == null ||
-                                endDate == null) {
-                        throw new BadRequestException(
-                                        "Start date and end date are required.");
-                }
-
-                if (startDate.isAfter(endDate)) {
-                        throw new BadRequestException(
-                                        "Start date cannot be after end date.");
-                }
+                requireDateRange(
+                                startDate,
+                                endDate);
 
                 List<Transaction> transactions = transactionRepository
                                 .findByUserIdAndDateBetweenOrderByDateDesc(
@@ -248,6 +589,82 @@ public class TransactionService {
                                 transactions);
         }
 
+        /*
+         * Streaming variants of the full-history queries.
+         *
+         * Rows are mapped and handed to the consumer one at a time,
+         * then detached, so heap use does not grow with the size
+         * of the user's history.
+         */
+
+        @Transactional(readOnly = true)
+        public void streamAllTransactions(
+                        UUID userId,
+                        Consumer<TransactionDTO> consumer) {
+                try (Stream<Transaction> transactions = transactionRepository
+                                .streamByUserId(
+                                                userId)) {
+                        forEachDetached(
+                                        transactions,
+                                        consumer);
+                }
+        }
+
+        @Transactional(readOnly = true)
+        public void streamTransactionsByCategory(
+                        UUID userId,
+                        String category,
+                        Consumer<TransactionDTO> consumer) {
+                requireCategory(category);
+
+                try (Stream<Transaction> transactions = transactionRepository
+                                .streamByUserIdAndCategory(
+                                                userId,
+                                                normalizeCategory(category))) {
+                        forEachDetached(
+                                        transactions,
+                                        consumer);
+                }
+        }
+
+        @Transactional(readOnly = true)
+        public void streamTransactionsByType(
+                        UUID userId,
+                        TransactionType type,
+                        Consumer<TransactionDTO> consumer) {
+                requireType(type);
+
+                try (Stream<Transaction> transactions = transactionRepository
+                                .streamByUserIdAndType(
+                                                userId,
+                                                type)) {
+                        forEachDetached(
+                                        transactions,
+                                        consumer);
+                }
+        }
+
+        @Transactional(readOnly = true)
+        public void streamTransactionsBetweenDates(
+                        UUID userId,
+                        LocalDate startDate,
+                        LocalDate endDate,
+                        Consumer<TransactionDTO> consumer) {
+                requireDateRange(
+                                startDate,
+                                endDate);
+
+                try (Stream<Transaction> transactions = transactionRepository
+                                .streamByUserIdAndDateBetween(
+                                                userId,
+                                                startDate,
+                                                endDate)) {
+                        forEachDetached(
+                                        transactions,
+                                        consumer);
+                }
+        }
+
         @Transactional(readOnly = true)
         public long countTransactions(
                         UUID userId) {
@@ -274,52 +691,242 @@ public class TransactionService {
                                                 transactionId,
                                                 userId)
                                 .orElseThrow(
-                                                () -> new ResourceNotFoundException(
-                                                                "Transaction not found."));
+                                                this::transactionNotFound);
+        }
+
+        private Transaction getTransactionSnapshot(
+                        Long transactionId,
+                        UUID userId) {
+                return transactionRepository
+                                .findSnapshotByIdAndUserId(
+                                                transactionId,
+                                                userId)
+                                .orElseThrow(
+                                                this::transactionNotFound);
+        }
+
+        private ResourceNotFoundException transactionNotFound() {
+                return new ResourceNotFoundException(
+                                "Transaction not found.");
+        }
+
+        private Specification<Transaction> buildSpecification(
+                        UUID userId,
+                        String search,
+                        SearchMode searchMode,
+                        TransactionType type,
+                        String category,
+                        LocalDate fromDate,
+                        LocalDate toDate) {
+                if (fromDate != null &&
+                                toDate != null &&
+                                fromDate.isAfter(toDate)) {
+                        throw new BadRequestException(
+                                        "From date cannot be after to date.");
+                }
+
+                Specification<Transaction> specification = Specification.where(
+                                TransactionSpecification
+                                                .belongsToUser(userId));
+
+                if (search != null &&
+                                !search.isBlank()) {
+                        specification = specification.and(
+                                        searchSpecification(
+                                                        search,
+                                                        searchMode));
+                }
+
+                if (type != null) {
+                        specification = specification.and(
+                                        TransactionSpecification
+                                                        .hasType(type));
+                }
+
+                if (category != null &&
+                                !category.isBlank()) {
+                        specification = specification.and(
+                                        TransactionSpecification
+                                                        .hasCategory(category));
+                }
+
+                if (fromDate != null) {
+                        specification = specification.and(
+                                        TransactionSpecification
+                                                        .fromDate(fromDate));
+                }
+
+                if (toDate != null) {
+                        specification = specification.and(
+                                        TransactionSpecification
+                                                        .toDate(toDate));
+                }
+
+                return specification;
+        }
+
+        /**
+         * PREFIX / RANKED use PostgreSQL full-text search when it is
+         * available; everything else uses the portable LIKE search.
+         */
+        private Specification<Transaction> searchSpecification(
+                        String search,
+                        SearchMode searchMode) {
+                String prefixQuery = TransactionSpecification
+                                .toPrefixQuery(search);
+
+                if (searchMode == null ||
+                                searchMode == SearchMode.CONTAINS ||
+                                prefixQuery == null ||
+                                !databaseFeatures.isFullTextSearchEnabled()) {
+                        return TransactionSpecification
+                                        .containsSearch(search);
+                }
+
+                return TransactionSpecification
+                                .matchesFullText(
+                                                prefixQuery,
+                                                searchMode == SearchMode.RANKED);
+        }
+
+        private boolean isRankedSearch(
+                        String search,
+                        SearchMode searchMode) {
+                return searchMode == SearchMode.RANKED &&
+                                databaseFeatures.isFullTextSearchEnabled() &&
+                                TransactionSpecification
+                                                .toPrefixQuery(search) != null;
+        }
+
+        private void forEachDetached(
+                        Stream<Transaction> transactions,
+                        Consumer<TransactionDTO> consumer) {
+                transactions.forEach(transaction -> {
+                        consumer.accept(
+                                        transactionMapper.toTransactionDTO(
+                                                        transaction));
+
+                        entityManager.detach(
+                                        transaction);
+                });
+        }
+
+        private void requireCategory(
+                        String category) {
+                if (category == null ||
+                                category.isBlank()) {
+                        throw new BadRequestException(
+                                        "Category is required.");
+                }
+        }
+
+        private void requireType(
+                        TransactionType type) {
+                if (type == null) {
+                        throw new BadRequestException(
+                                        "Transaction type is required.");
+                }
+        }
+
+        private void requireDateRange(
+                        LocalDate startDate,
+                        LocalDate endDate) {
+                if (startDate == null ||
+                                endDate == null) {
+                        throw new BadRequestException(
+                                        "Start date and end date are required.");
+                }
+
+                if (startDate.isAfter(endDate)) {
+                        throw new BadRequestException(
+                                        "Start date cannot be after end date.");
+                }
         }
 
         private void validateTransactionRequest(
                         TransactionRequest request) {
-                if (request == null) {
+                String error = findValidationError(
+                                request);
+
+                if (error != null) {
                         throw new BadRequestException(
-                                        "Transaction request cannot be null.");
+                                        error);
+                }
+        }
+
+        /**
+         * Returns the first rule the request breaks, or null.
+         */
+        String findValidationError(
+                        TransactionRequest request) {
+                if (request == null) {
+                        return "Transaction request cannot be null.";
                 }
 
                 if (request.getType() == null) {
-                        throw new BadRequestException(
-                                        "Transaction type is required.");
+                        return "Transaction type is required.";
                 }
 
                 if (request.getAmount() == null ||
                                 request.getAmount().signum() <= 0) {
-                        throw new BadRequestException(
-                                        "Amount must be greater than zero.");
+                        return "Amount must be greater than zero.";
+                }
+
+                /*
+                 * Same limits as the numeric(12,2) column, so the
+                 * rollup delta is never more precise than the row.
+                 */
+                BigDecimal amount = request.getAmount()
+                                .stripTrailingZeros();
+
+                if (amount.scale() > 2 ||
+                                amount.precision() - amount.scale() > 10) {
+                        return "Amount must have at most 10 digits and 2 decimal places.";
                 }
 
                 if (request.getCategory() == null ||
                                 request.getCategory().isBlank()) {
-                        throw new BadRequestException(
-                                        "Category is required.");
+                        return "Category is required.";
                 }
 
                 if (request.getDate() == null) {
-                        throw new BadRequestException(
-                                        "Transaction date is required.");
+                        return "Transaction date is required.";
                 }
 
                 if (request.getCategory().strip().length() > 100) {
-                        throw new BadRequestException(
-                                        "Category cannot exceed 100 characters.");
+                        return "Category cannot exceed 100 characters.";
                 }
 
                 if (request.getNotes() != null &&
                                 request.getNotes().strip().length() > 500) {
-                        throw new BadRequestException(
-                                        "Notes cannot exceed 500 characters.");
+                        return "Notes cannot exceed 500 characters.";
                 }
+
+                return null;
+        }
+
+        private Transaction toTransaction(
+                        UUID userId,
+                        TransactionRequest request) {
+                return Transaction.builder()
+                                .userId(userId)
+                                .type(request.getType())
+                                .amount(request.getAmount())
+                                .category(
+                                                normalizeCategory(
+                                                                request.getCategory()))
+                                .date(request.getDate())
+                                .notes(
+                                                normalizeNotes(
+                                                                request.getNotes()))
+                                .build();
         }
 
-        private String normalizeCategory(
+        /**
+         * The stored form of every category: trimmed, with runs of
+         * whitespace collapsed to one space.
+         */
+        public static String normalizeCategory(
                         String category) {
                 return category
                                 .strip()
@@ -1,14 +1,15 @@
 package com.expenso.expense_tracker.service;
 
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.expenso.expense_tracker.dto.user.UserResponse;
+import com.expenso.expense_tracker.event.UserAccountChangedEvent;
 import com.expenso.expense_tracker.exception.ResourceNotFoundException;
 import com.expenso.expense_tracker.mapper.UserMapper;
 import com.expenso.expense_tracker.model.User;
 import com.expenso.expense_tracker.repository.UserRepository;
-import com.expenso.expense_tracker.security.JwtService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -18,7 +19,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getCurrentUser(UUID userId) {
@@ -33,24 +34,36 @@ public class UserService {
     public UserResponse updateProfile(UUID userId, String name) {
         User user = getUserEntity(userId);
         user.setName(name.strip());
-        return userMapper.toUserResponse(userRepository.save(user));
+        User savedUser = userRepository.save(user);
+        publishAccountChanged(savedUser);
+        return userMapper.toUserResponse(savedUser);
     }
 
+    /**
+     * Also bumps the token version, so tokens issued before
+     * deactivation stay invalid after a later reactivation.
+     */
     public void deactivateAccount(UUID userId) {
         User user = getUserEntity(userId);
         user.setActive(false);
-        userRepository.save(user);
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        publishAccountChanged(userRepository.save(user));
     }
 
+    /**
+     * Looked up with findById, since getUserEntity only finds
+     * active users.
+     */
     public void reactivateAccount(UUID userId) {
-        User user = getUserEntity(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found."));
         user.setActive(true);
-        userRepository.save(user);
+        publishAccountChanged(userRepository.save(user));
     }
 
-    @Transactional(readOnly = true)
-    public UserResponse getCurrentUser(String token) {
-        return getCurrentUser(jwtService.extractUserId(token));
+    private void publishAccountChanged(User user) {
+        eventPublisher.publishEvent(
+                new UserAccountChangedEvent(user.getId(), user.isActive(), user.getTokenVersion()));
     }
 
     private User getUserEntity(UUID userId) {
@@ -0,0 +1,135 @@
+package com.expenso.expense_tracker.specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+
+import com.expenso.expense_tracker.dto.transaction.TransactionDTO;
+import com.expenso.expense_tracker.exception.BadRequestException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Keyset (seek) pagination cursor for transaction lists.
+ *
+ * Holds the sort key of the last row returned: (date, amount, id).
+ * Encoded as an opaque URL-safe token that also records the sort
+ * it was issued for, so a cursor cannot be replayed against a
+ * different ordering.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionCursor {
+
+    private static final String VERSION = "v1";
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortKey;
+
+    private final LocalDate date;
+
+    private final BigDecimal amount;
+
+    private final Long id;
+
+    /**
+     * Cursor pointing after the given row.
+     */
+    public static TransactionCursor after(
+            TransactionDTO transaction,
+            Sort sort) {
+
+        return new TransactionCursor(
+                sortKey(sort),
+                transaction.getDate(),
+                transaction.getAmount(),
+                transaction.getId());
+    }
+
+    /**
+     * Decode a token issued for the same sort.
+     */
+    public static TransactionCursor decode(
+            String token,
+            Sort sort) {
+
+        String[] parts;
+
+        try {
+            parts = new String(
+                    Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException(
+                    "Invalid cursor.");
+        }
+
+        if (parts.length != 5 ||
+                !VERSION.equals(parts[0])) {
+            throw new BadRequestException(
+                    "Invalid cursor.");
+        }
+
+        if (!sortKey(sort).equals(parts[1])) {
+            throw new BadRequestException(
+                    "Cursor does not match the requested sort.");
+        }
+
+        try {
+            return new TransactionCursor(
+                    parts[1],
+                    LocalDate.parse(parts[2]),
+                    new BigDecimal(parts[3]),
+                    Long.valueOf(parts[4]));
+        } catch (RuntimeException exception) {
+            throw new BadRequestException(
+                    "Invalid cursor.");
+        }
+    }
+
+    public String encode() {
+
+        String raw = String.join(
+                SEPARATOR,
+                VERSION,
+                sortKey,
+                date.toString(),
+                amount.toPlainString(),
+                id.toString());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(
+                        raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Value of a sort property for the seek predicate.
+     */
+    Comparable<?> valueOf(String property) {
+
+        return switch (property) {
+            case "date" -> date;
+            case "amount" -> amount;
+            case "id" -> id;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported cursor property: " + property);
+        };
+    }
+
+    private static String sortKey(Sort sort) {
+
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" +
+                        order.getDirection().name().toLowerCase())
+                .collect(Collectors.joining(","));
+    }
+}
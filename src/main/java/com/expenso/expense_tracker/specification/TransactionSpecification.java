@@ -1,8 +1,18 @@
 package com.expenso.expense_tracker.specification;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.expenso.expense_tracker.enums.TransactionType;
@@ -10,6 +20,8 @@ import com.expenso.expense_tracker.model.Transaction;
 
 public final class TransactionSpecification {
 
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
   private TransactionSpecification() {
   }
 
@@ -89,4 +101,112 @@ public final class TransactionSpecification {
               pattern));
     };
   }
-}
\ No newline at end of file
+
+  /**
+   * Builds a prefix tsquery from free text: "coff sta" -> "coff:* & sta:*".
+   *
+   * Returns null when the text has no searchable words.
+   */
+  public static String toPrefixQuery(String search) {
+    if (search == null) {
+      return null;
+    }
+
+    String query = Arrays.stream(
+        NON_WORD.split(search.strip().toLowerCase()))
+        .filter(word -> !word.isEmpty())
+        .map(word -> word + ":*")
+        .collect(Collectors.joining(" & "));
+
+    return query.isEmpty()
+        ? null
+        : query;
+  }
+
+  /**
+   * PostgreSQL full-text match on category and notes.
+   *
+   * When ranked, results are ordered by relevance, then date and id.
+   * Callers must pass an unsorted Pageable so the ordering is kept.
+   */
+  public static Specification<Transaction> matchesFullText(
+      String prefixQuery,
+      boolean ranked) {
+    return (root, query, criteriaBuilder) -> {
+      Expression<String> tsQuery = criteriaBuilder.literal(prefixQuery);
+
+      if (ranked &&
+          !Long.class.equals(query.getResultType())) {
+        query.orderBy(
+            criteriaBuilder.desc(
+                criteriaBuilder.function(
+                    "fts_rank",
+                    Double.class,
+                    root.get("category"),
+                    root.get("notes"),
+                    tsQuery)),
+            criteriaBuilder.desc(root.get("date")),
+            criteriaBuilder.desc(root.get("id")));
+      }
+
+      return criteriaBuilder.isTrue(
+          criteriaBuilder.function(
+              "fts_match",
+              Boolean.class,
+              root.get("category"),
+              root.get("notes"),
+              tsQuery));
+    };
+  }
+
+  /**
+   * Keyset predicate: rows strictly after the cursor in the given sort.
+   *
+   * For (date desc, id desc) this is
+   * date <= :date AND (date < :date OR (date = :date AND id < :id)).
+   *
+   * The OR alone is not sargable; the redundant bound on the
+   * leading key lets the (userId, date, id) index start a range
+   * scan at the cursor instead of filtering every newer row.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public static Specification<Transaction> seekAfter(
+      Sort sort,
+      TransactionCursor cursor) {
+    return (root, query, criteriaBuilder) -> {
+      List<Predicate> alternatives = new ArrayList<>();
+      List<Predicate> equalities = new ArrayList<>();
+      Predicate leadingBound = null;
+
+      for (Sort.Order order : sort) {
+        Path<Comparable> path = root.get(order.getProperty());
+        Comparable value = cursor.valueOf(order.getProperty());
+
+        Predicate beyond = order.isAscending()
+            ? criteriaBuilder.greaterThan(path, value)
+            : criteriaBuilder.lessThan(path, value);
+
+        List<Predicate> alternative = new ArrayList<>(equalities);
+        alternative.add(beyond);
+
+        alternatives.add(
+            criteriaBuilder.and(
+                alternative.toArray(Predicate[]::new)));
+
+        if (leadingBound == null) {
+          leadingBound = order.isAscending()
+              ? criteriaBuilder.greaterThanOrEqualTo(path, value)
+              : criteriaBuilder.lessThanOrEqualTo(path, value);
+        }
+
+        equalities.add(
+            criteriaBuilder.equal(path, value));
+      }
+
+      return criteriaBuilder.and(
+          leadingBound,
+          criteriaBuilder.or(
+              alternatives.toArray(Predicate[]::new)));
+    };
+  }
+}
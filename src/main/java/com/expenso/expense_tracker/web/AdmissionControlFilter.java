@@ -0,0 +1,297 @@
+package com.expenso.expense_tracker.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.expenso.expense_tracker.dto.common.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admission Control Filter
+ *
+ * Caps concurrent API requests, by default at the Hikari pool
+ * size. With virtual threads Tomcat no longer limits
+ * concurrency, so without this every request would queue
+ * inside Hikari and time out there after 30s.
+ *
+ * Requests wait up to the admission timeout for a permit and
+ * are then rejected with 503 and Retry-After.
+ *
+ * Async requests (StreamingResponseBody exports, the JFR dump)
+ * keep their permit until the async request completes, since
+ * their database work runs after the initial dispatch returns.
+ *
+ * Enabled by app.web.admission.enabled, which follows
+ * spring.threads.virtual.enabled by default. Published as
+ * http.admission.* meters.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@ConditionalOnProperty(name = "app.web.admission.enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final Semaphore permits;
+
+    private final int maxConcurrent;
+
+    private final Duration timeout;
+
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionControlFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${app.web.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${app.web.admission.timeout:2s}") Duration timeout
+    ) {
+
+        this.maxConcurrent = maxConcurrent > 0
+                ? maxConcurrent
+                : poolSize(dataSource);
+
+        this.permits = new Semaphore(this.maxConcurrent, true);
+
+        this.timeout = timeout;
+
+        this.objectMapper = objectMapper;
+
+        log.info("Admission control: at most {} concurrent API requests", this.maxConcurrent);
+
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        String path = request.getRequestURI();
+
+        return !path.startsWith("/api/")
+                || path.startsWith("/api/health");
+
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        boolean admitted;
+
+        try {
+
+            admitted = permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            admitted = false;
+
+        }
+
+        if (!admitted) {
+
+            rejected.increment();
+
+            reject(response);
+
+            return;
+
+        }
+
+        Runnable release = releaseOnce();
+
+        boolean releasedLater = false;
+
+        try {
+
+            filterChain.doFilter(request, response);
+
+            if (request.isAsyncStarted()) {
+
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(release));
+
+                releasedLater = true;
+
+            }
+
+        } finally {
+
+            if (!releasedLater) {
+
+                release.run();
+
+            }
+
+        }
+
+    }
+
+    public int getMaxConcurrent() {
+
+        return maxConcurrent;
+
+    }
+
+    public int getInFlight() {
+
+        return maxConcurrent - permits.availablePermits();
+
+    }
+
+    public int getWaiting() {
+
+        return permits.getQueueLength();
+
+    }
+
+    public long getRejectedCount() {
+
+        return rejected.sum();
+
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("http.admission.limit", this, AdmissionControlFilter::getMaxConcurrent)
+                .description("Maximum concurrent API requests")
+                .register(registry);
+
+        Gauge.builder("http.admission.in.flight", this, AdmissionControlFilter::getInFlight)
+                .description("API requests holding a permit")
+                .register(registry);
+
+        Gauge.builder("http.admission.waiting", this, AdmissionControlFilter::getWaiting)
+                .description("API requests waiting for a permit")
+                .register(registry);
+
+        FunctionCounter.builder("http.admission.rejected", this, AdmissionControlFilter::getRejectedCount)
+                .description("API requests rejected with 503")
+                .register(registry);
+
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                ApiResponse.builder()
+                        .success(false)
+                        .message("Server is busy. Please try again shortly.")
+                        .data(null)
+                        .build()
+        );
+
+    }
+
+    /**
+     * Releases one permit, however many completion paths run it.
+     */
+    private Runnable releaseOnce() {
+
+        AtomicBoolean released = new AtomicBoolean();
+
+        return () -> {
+
+            if (released.compareAndSet(false, true)) {
+
+                permits.release();
+
+            }
+
+        };
+
+    }
+
+    private static int poolSize(DataSource dataSource) {
+
+        if (dataSource instanceof HikariDataSource hikari) {
+
+            return hikari.getMaximumPoolSize();
+
+        }
+
+        return 10;
+
+    }
+
+    /**
+     * Releases the permit when the async request ends, including
+     * by timeout or error, and follows it into a restarted async
+     * cycle.
+     */
+    private record ReleaseOnCompletion(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+
+            release.run();
+
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+
+            release.run();
+
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+
+            release.run();
+
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+
+            event.getAsyncContext().addListener(this);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.expenso.expense_tracker.web;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Request Query Counter
+ *
+ * Counts the SQL statements Hibernate prepares on the current
+ * thread between begin() and end(). Registered as Hibernate's
+ * statement inspector by MetricsConfig; statements outside a
+ * counted request are passed through untouched. Statements
+ * are also reported to RequestTimings for Server-Timing.
+ *
+ * Work handed to other threads (streaming responses, the
+ * import worker) is not attributed to the request.
+ */
+@Component
+public class RequestQueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+
+        RequestTimings.countStatement();
+
+        int[] count = COUNT.get();
+
+        if (count != null) {
+
+            count[0]++;
+
+        }
+
+        return sql;
+
+    }
+
+    void begin() {
+
+        COUNT.set(new int[1]);
+
+    }
+
+    int end() {
+
+        int[] count = COUNT.get();
+
+        COUNT.remove();
+
+        return count == null ? 0 : count[0];
+
+    }
+
+}
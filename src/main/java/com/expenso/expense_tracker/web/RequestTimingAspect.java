@@ -0,0 +1,61 @@
+package com.expenso.expense_tracker.web;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.expenso.expense_tracker.web.RequestTimings.Phase;
+
+/**
+ * Request Timing Aspect
+ *
+ * Feeds RequestTimings from the layers that have no request
+ * hooks of their own: Spring Data repositories, the cached
+ * user lookup and the MapStruct mappers.
+ *
+ * Repository methods returning a Stream are timed until the
+ * stream is returned, not while it is consumed.
+ */
+@Aspect
+@Component
+public class RequestTimingAspect {
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        return time(Phase.DB, joinPoint);
+
+    }
+
+    @Around("execution(* com.expenso.expense_tracker.cache.UserPrincipalCache.getActiveUser*(..))")
+    public Object timeUserLookup(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        return time(Phase.USER, joinPoint);
+
+    }
+
+    @Around("within(com.expenso.expense_tracker.mapper..*)")
+    public Object timeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        return time(Phase.MAPPING, joinPoint);
+
+    }
+
+    private Object time(Phase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+
+        RequestTimings.enter(phase);
+
+        try {
+
+            return joinPoint.proceed();
+
+        } finally {
+
+            RequestTimings.exit(phase);
+
+        }
+
+    }
+
+}
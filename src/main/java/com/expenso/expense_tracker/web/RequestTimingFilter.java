@@ -0,0 +1,123 @@
+package com.expenso.expense_tracker.web;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request Timing Filter
+ *
+ * Runs outside Spring Security so JWT verification is
+ * included. Collects RequestTimings for every API request and
+ *
+ * • Sends them as a Server-Timing header, when enabled (off by
+ *   default). Responses written by the Jackson converters
+ *   (JSON, CBOR, Smile) get it from TimedBodyWriter, which
+ *   buffers bodies up to the header buffer limit so it can
+ *   still add headers after serializing; other responses get
+ *   it here if nothing has been written yet. Streamed and
+ *   larger responses have none.
+ * • Logs them when the request took longer than the slow
+ *   request threshold. Auth endpoints have their own, higher
+ *   threshold, since every login or signup pays for a BCrypt
+ *   hash.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/auth/";
+
+    private final boolean headerEnabled;
+
+    private final int headerBufferLimit;
+
+    private final long slowRequestThresholdNanos;
+
+    private final long authSlowRequestThresholdNanos;
+
+    public RequestTimingFilter(
+            @Value("${app.web.timing.server-timing-header:false}") boolean headerEnabled,
+            @Value("${app.web.timing.header-buffer-limit:256KB}") DataSize headerBufferLimit,
+            @Value("${app.web.timing.slow-request-threshold:500ms}") Duration slowRequestThreshold,
+            @Value("${app.web.timing.auth-slow-request-threshold:2s}") Duration authSlowRequestThreshold
+    ) {
+
+        this.headerEnabled = headerEnabled;
+
+        this.headerBufferLimit = Math.toIntExact(headerBufferLimit.toBytes());
+
+        this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+
+        this.authSlowRequestThresholdNanos = authSlowRequestThreshold.toNanos();
+
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        return !request.getRequestURI().startsWith("/api/");
+
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.start(headerEnabled, headerBufferLimit);
+
+        try {
+
+            filterChain.doFilter(request, response);
+
+        } finally {
+
+            RequestTimings.clear();
+
+            if (headerEnabled
+                    && !request.isAsyncStarted()
+                    && !response.isCommitted()
+                    && !response.containsHeader(RequestTimings.HEADER)) {
+
+                response.setHeader(RequestTimings.HEADER, timings.toServerTiming());
+
+            }
+
+            long thresholdNanos = request.getRequestURI().startsWith(AUTH_PATH)
+                    ? authSlowRequestThresholdNanos
+                    : slowRequestThresholdNanos;
+
+            if (timings.elapsedNanos() >= thresholdNanos) {
+
+                log.warn(
+                        "Slow request: method={} uri={} status={} {}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        timings.toLogFields()
+                );
+
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.expenso.expense_tracker.web;
+
+import java.util.Locale;
+
+/**
+ * Request Timings
+ *
+ * Per-request breakdown of where the time went, collected on
+ * the request thread between RequestTimingFilter's start()
+ * and clear(). Outside a timed request every call is a no-op.
+ *
+ * Each phase only counts its outermost enter()/exit() pair,
+ * so nested repository calls are not counted twice. Phases
+ * may overlap each other (a user lookup that misses the cache
+ * is also a repository call).
+ *
+ * Work handed to other threads (streaming responses, the
+ * import worker) is not attributed to the request.
+ */
+public final class RequestTimings {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    public enum Phase {
+
+        AUTH("auth", "JWT verification"),
+
+        USER("user", "User lookup"),
+
+        DB("db", "Repository calls"),
+
+        MAPPING("mapping", "DTO mapping"),
+
+        SERIALIZE("serialize", "Response serialization");
+
+        private final String metricName;
+
+        private final String description;
+
+        Phase(String metricName, String description) {
+
+            this.metricName = metricName;
+
+            this.description = description;
+
+        }
+
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startedAt = System.nanoTime();
+
+    private final boolean headerEnabled;
+
+    private final int headerBufferLimit;
+
+    private final long[] nanos = new long[PHASES.length];
+
+    private final long[] enteredAt = new long[PHASES.length];
+
+    private final int[] depth = new int[PHASES.length];
+
+    private final int[] calls = new int[PHASES.length];
+
+    private int statements;
+
+    private RequestTimings(boolean headerEnabled, int headerBufferLimit) {
+
+        this.headerEnabled = headerEnabled;
+
+        this.headerBufferLimit = headerBufferLimit;
+
+    }
+
+    static RequestTimings start(boolean headerEnabled, int headerBufferLimit) {
+
+        RequestTimings timings = new RequestTimings(headerEnabled, headerBufferLimit);
+
+        CURRENT.set(timings);
+
+        return timings;
+
+    }
+
+    static RequestTimings current() {
+
+        return CURRENT.get();
+
+    }
+
+    static void clear() {
+
+        CURRENT.remove();
+
+    }
+
+    public static boolean isActive() {
+
+        return CURRENT.get() != null;
+
+    }
+
+    public static void enter(Phase phase) {
+
+        RequestTimings timings = CURRENT.get();
+
+        if (timings != null && timings.depth[phase.ordinal()]++ == 0) {
+
+            timings.enteredAt[phase.ordinal()] = System.nanoTime();
+
+        }
+
+    }
+
+    public static void exit(Phase phase) {
+
+        RequestTimings timings = CURRENT.get();
+
+        int index = phase.ordinal();
+
+        if (timings != null && timings.depth[index] > 0 && --timings.depth[index] == 0) {
+
+            timings.nanos[index] += System.nanoTime() - timings.enteredAt[index];
+
+            timings.calls[index]++;
+
+        }
+
+    }
+
+    static void countStatement() {
+
+        RequestTimings timings = CURRENT.get();
+
+        if (timings != null) {
+
+            timings.statements++;
+
+        }
+
+    }
+
+    boolean isHeaderEnabled() {
+
+        return headerEnabled;
+
+    }
+
+    /**
+     * Largest response body buffered to add the header after
+     * serialization; larger bodies are streamed without it.
+     */
+    int getHeaderBufferLimit() {
+
+        return headerBufferLimit;
+
+    }
+
+    long elapsedNanos() {
+
+        return System.nanoTime() - startedAt;
+
+    }
+
+    /**
+     * Server-Timing header value, e.g.
+     *
+     * auth;dur=0.3, db;dur=12.5;desc="Repository calls (4, 6 statements)", total;dur=15.1
+     */
+    String toServerTiming() {
+
+        StringBuilder header = new StringBuilder();
+
+        for (Phase phase : PHASES) {
+
+            int index = phase.ordinal();
+
+            if (calls[index] == 0) {
+
+                continue;
+
+            }
+
+            header.append(phase.metricName)
+                    .append(";dur=")
+                    .append(millis(nanos[index]))
+                    .append(";desc=\"")
+                    .append(phase.description)
+                    .append(" (")
+                    .append(calls[index]);
+
+            if (phase == Phase.DB) {
+
+                header.append(", ").append(statements).append(" statements");
+
+            }
+
+            header.append(")\", ");
+
+        }
+
+        return header.append("total;dur=")
+                .append(millis(elapsedNanos()))
+                .toString();
+
+    }
+
+    /**
+     * key=value pairs for the slow request log.
+     */
+    String toLogFields() {
+
+        StringBuilder fields = new StringBuilder()
+                .append("total=")
+                .append(millis(elapsedNanos()))
+                .append("ms");
+
+        for (Phase phase : PHASES) {
+
+            int index = phase.ordinal();
+
+            if (calls[index] == 0) {
+
+                continue;
+
+            }
+
+            fields.append(' ')
+                    .append(phase.metricName)
+                    .append('=')
+                    .append(millis(nanos[index]))
+                    .append("ms");
+
+        }
+
+        return fields.append(" statements=")
+                .append(statements)
+                .toString();
+
+    }
+
+    private static String millis(long nanos) {
+
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.expenso.expense_tracker.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import com.expenso.expense_tracker.web.RequestTimings.Phase;
+
+/**
+ * Timed Body Writer
+ *
+ * Shared by the Jackson message converters (JSON, CBOR,
+ * Smile). Records serialization time in RequestTimings. When
+ * the Server-Timing header is enabled the body is serialized
+ * into a buffer first, so the header can still be added, with
+ * the serialization time, before anything reaches the client.
+ *
+ * The buffer is capped at the header buffer limit. A body
+ * that outgrows it is flushed and streamed from there on,
+ * without the header, so large responses are not held in
+ * memory twice.
+ */
+final class TimedBodyWriter {
+
+    @FunctionalInterface
+    interface BodyWriter {
+
+        void write(HttpOutputMessage outputMessage) throws IOException;
+
+    }
+
+    private TimedBodyWriter() {
+    }
+
+    static void write(
+            HttpOutputMessage outputMessage,
+            BodyWriter writer
+    ) throws IOException {
+
+        RequestTimings timings = RequestTimings.current();
+
+        if (timings == null) {
+
+            writer.write(outputMessage);
+
+            return;
+
+        }
+
+        if (!timings.isHeaderEnabled()) {
+
+            RequestTimings.enter(Phase.SERIALIZE);
+
+            try {
+
+                writer.write(outputMessage);
+
+            } finally {
+
+                RequestTimings.exit(Phase.SERIALIZE);
+
+            }
+
+            return;
+
+        }
+
+        SpillingOutputStream body = new SpillingOutputStream(
+                outputMessage,
+                timings.getHeaderBufferLimit()
+        );
+
+        RequestTimings.enter(Phase.SERIALIZE);
+
+        try {
+
+            writer.write(new HttpOutputMessage() {
+
+                @Override
+                public OutputStream getBody() {
+
+                    return body;
+
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+
+                    return outputMessage.getHeaders();
+
+                }
+
+            });
+
+        } finally {
+
+            RequestTimings.exit(Phase.SERIALIZE);
+
+        }
+
+        if (body.buffer == null) {
+
+            return;
+
+        }
+
+        outputMessage.getHeaders().set(RequestTimings.HEADER, timings.toServerTiming());
+
+        outputMessage.getHeaders().setContentLength(body.buffer.size());
+
+        body.buffer.writeTo(outputMessage.getBody());
+
+    }
+
+    /**
+     * Buffers up to the limit, then writes the buffer and
+     * everything after it straight to the response.
+     */
+    private static final class SpillingOutputStream extends OutputStream {
+
+        private final HttpOutputMessage outputMessage;
+
+        private final int limit;
+
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+        private OutputStream target;
+
+        SpillingOutputStream(HttpOutputMessage outputMessage, int limit) {
+
+            this.outputMessage = outputMessage;
+
+            this.limit = limit;
+
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            reserve(1).write(b);
+
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+
+            reserve(length).write(bytes, offset, length);
+
+        }
+
+        @Override
+        public void flush() throws IOException {
+
+            if (target != null) {
+
+                target.flush();
+
+            }
+
+        }
+
+        private OutputStream reserve(int length) throws IOException {
+
+            if (target != null) {
+
+                return target;
+
+            }
+
+            if (buffer.size() + length <= limit) {
+
+                return buffer;
+
+            }
+
+            target = outputMessage.getBody();
+
+            buffer.writeTo(target);
+
+            buffer = null;
+
+            return target;
+
+        }
+
+    }
+
+}
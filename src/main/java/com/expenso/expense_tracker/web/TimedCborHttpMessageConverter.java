@@ -0,0 +1,40 @@
+package com.expenso.expense_tracker.web;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Timed CBOR Message Converter
+ *
+ * application/cbor responses, written with a CBOR copy of the
+ * application ObjectMapper and timed by TimedBodyWriter.
+ */
+public class TimedCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    public TimedCborHttpMessageConverter(ObjectMapper cborMapper) {
+
+        super(cborMapper);
+
+    }
+
+    @Override
+    protected void writeInternal(
+            Object object,
+            Type type,
+            HttpOutputMessage outputMessage
+    ) throws IOException, HttpMessageNotWritableException {
+
+        TimedBodyWriter.write(
+                outputMessage,
+                message -> super.writeInternal(object, type, message)
+        );
+
+    }
+
+}
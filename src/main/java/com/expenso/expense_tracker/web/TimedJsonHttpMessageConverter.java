@@ -0,0 +1,40 @@
+package com.expenso.expense_tracker.web;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Timed JSON Message Converter
+ *
+ * Jackson JSON converter whose writes are timed by
+ * TimedBodyWriter.
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+
+        super(objectMapper);
+
+    }
+
+    @Override
+    protected void writeInternal(
+            Object object,
+            Type type,
+            HttpOutputMessage outputMessage
+    ) throws IOException, HttpMessageNotWritableException {
+
+        TimedBodyWriter.write(
+                outputMessage,
+                message -> super.writeInternal(object, type, message)
+        );
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.expenso.expense_tracker.web;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Timed Smile Message Converter
+ *
+ * application/x-jackson-smile responses, written with a Smile
+ * copy of the application ObjectMapper and timed by
+ * TimedBodyWriter.
+ */
+public class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    public TimedSmileHttpMessageConverter(ObjectMapper smileMapper) {
+
+        super(smileMapper);
+
+    }
+
+    @Override
+    protected void writeInternal(
+            Object object,
+            Type type,
+            HttpOutputMessage outputMessage
+    ) throws IOException, HttpMessageNotWritableException {
+
+        TimedBodyWriter.write(
+                outputMessage,
+                message -> super.writeInternal(object, type, message)
+        );
+
+    }
+
+}
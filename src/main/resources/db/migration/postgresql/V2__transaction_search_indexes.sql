@@ -0,0 +1,23 @@
+-- Search indexes for transactions.
+--
+-- btree_gin lets user_id share a GIN index with the search
+-- expression, so every lookup is scoped to one user's rows.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Trigram indexes serve the substring search
+-- (lower(column) LIKE '%term%').
+CREATE INDEX IF NOT EXISTS idx_transactions_category_trgm
+    ON transactions USING gin (user_id, lower(category) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_notes_trgm
+    ON transactions USING gin (user_id, lower(notes) gin_trgm_ops);
+
+-- Full-text index for prefix and ranked search.
+-- Must match the expression rendered by SearchFunctionContributor.
+CREATE INDEX IF NOT EXISTS idx_transactions_search_vector
+    ON transactions USING gin (
+        user_id,
+        to_tsvector('simple', coalesce(category, '') || ' ' || coalesce(notes, ''))
+    );
@@ -0,0 +1,14 @@
+-- Transaction ids move from IDENTITY to the pooled sequence
+-- transactions_seq (increment 50).
+--
+-- Hibernate creates the sequence starting at 1. Move it past the
+-- ids already issued by the identity column so the first pooled
+-- block (value - 49 .. value) cannot collide with existing rows.
+
+CREATE SEQUENCE IF NOT EXISTS transactions_seq INCREMENT BY 50;
+
+SELECT setval(
+    'transactions_seq',
+    (SELECT COALESCE(MAX(id), 0) FROM transactions) + 50,
+    false
+);
@@ -0,0 +1,42 @@
+-- Emails are looked up by exact match on the unique email index,
+-- so stored values must already be in AuthService.normalizeEmail
+-- form (trimmed, lower case).
+--
+-- When several accounts normalize to the same address, the oldest
+-- one gets it, unless an account already stores it normalized.
+
+WITH ranked AS (
+    SELECT id,
+           LOWER(TRIM(email)) AS normalized,
+           ROW_NUMBER() OVER (
+               PARTITION BY LOWER(TRIM(email))
+               ORDER BY created_at, id
+           ) AS position
+    FROM users
+    WHERE email <> LOWER(TRIM(email))
+)
+UPDATE users u
+SET email = r.normalized
+FROM ranked r
+WHERE u.id = r.id
+  AND r.position = 1
+  AND NOT EXISTS (
+      SELECT 1
+      FROM users other
+      WHERE other.email = r.normalized
+  );
+
+-- The remaining duplicates get a normalized address that is unique
+-- by account id, e.g. duplicate-<id>.foo@x.com, and can be found
+-- with email LIKE 'duplicate-%' for manual cleanup. The id comes
+-- first, so cutting to the column length keeps values unique.
+
+UPDATE users
+SET email = LEFT('duplicate-' || id || '.' || LOWER(TRIM(email)), 150)
+WHERE email <> LOWER(TRIM(email));
+
+-- Every row is normalized now, so the constraint is validated.
+
+ALTER TABLE users
+    ADD CONSTRAINT chk_users_email_normalized
+    CHECK (email = LOWER(TRIM(email)));